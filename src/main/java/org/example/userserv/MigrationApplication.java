@@ -0,0 +1,44 @@
+package org.example.userserv;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.userserv.config.ShardingConfig;
+import org.example.userserv.repository.CardNumberHashBackfillRepository;
+import org.example.userserv.sharding.ShardRouter;
+import org.example.userserv.util.CardNumberHasher;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import java.util.stream.Stream;
+
+@Slf4j
+@ImportAutoConfiguration({PropertyPlaceholderAutoConfiguration.class, DataSourceAutoConfiguration.class,
+        JdbcTemplateAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+@Import({ShardingConfig.class, CardNumberHasher.class, CardNumberHashBackfillRepository.class})
+public class MigrationApplication {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(MigrationApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+
+        String[] migrationArgs = Stream.concat(Stream.of("--spring.liquibase.enabled=true"), Stream.of(args))
+                .toArray(String[]::new);
+        System.exit(SpringApplication.exit(application.run(migrationArgs)));
+    }
+
+    @Bean
+    public ApplicationRunner cardNumberHashBackfill(ShardRouter shardRouter,
+                                                    CardNumberHashBackfillRepository backfillRepository) {
+        return args -> {
+            long backfilled = shardRouter.forEachShard(backfillRepository::backfillNumberHashes);
+            log.info("Backfilled {} card number hashes", backfilled);
+        };
+    }
+
+}
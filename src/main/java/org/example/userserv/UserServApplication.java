@@ -1,13 +1,22 @@
 package org.example.userserv;
 
+import org.example.userserv.config.NativeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeHints.class)
 public class UserServApplication {
+    private static final int STARTUP_STEPS_CAPACITY = 8192;
 
     public static void main(String[] args) {
-        SpringApplication.run(UserServApplication.class, args);
+        SpringApplication application = new SpringApplication(UserServApplication.class);
+        if (Boolean.parseBoolean(System.getenv("STARTUP_REPORT")))
+            application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+
+        application.run(args);
     }
 
 }
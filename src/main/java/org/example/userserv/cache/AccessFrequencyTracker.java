@@ -0,0 +1,23 @@
+package org.example.userserv.cache;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AccessFrequencyTracker {
+    private final int maxTrackedKeys;
+    private final Map<String, KeyAccessStats> stats = new ConcurrentHashMap<>();
+
+    public AccessFrequencyTracker(int maxTrackedKeys) {
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public KeyAccessStats stats(String cacheName) {
+        return stats.computeIfAbsent(cacheName, n -> new KeyAccessStats(maxTrackedKeys));
+    }
+
+    @Scheduled(fixedDelayString = "${cache.ttl.decay-interval:600000}")
+    public void decay() {
+        stats.values().forEach(KeyAccessStats::decay);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.userserv.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+import java.time.Duration;
+
+public class AdaptiveTtlFunction implements RedisCacheWriter.TtlFunction {
+    private final KeyAccessStats stats;
+    private final Duration minTtl;
+    private final Duration maxTtl;
+    private final double hotReadRatio;
+
+    public AdaptiveTtlFunction(KeyAccessStats stats, Duration minTtl, Duration maxTtl, double hotReadRatio) {
+        if (minTtl.compareTo(maxTtl) > 0)
+            throw new IllegalArgumentException("Minimum TTL must not exceed maximum TTL");
+
+        this.stats = stats;
+        this.minTtl = minTtl;
+        this.maxTtl = maxTtl;
+        this.hotReadRatio = hotReadRatio;
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, @Nullable Object value) {
+        double readsPerWrite = stats.reads(key) / (stats.writes(key) + 1.0);
+        double hotness = Math.min(1.0, readsPerWrite / hotReadRatio);
+        long range = maxTtl.toMillis() - minTtl.toMillis();
+
+        return minTtl.plusMillis((long) (range * hotness));
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.userserv.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CacheCircuitBreaker {
+    private final int failureThreshold;
+    private final long slowCallThresholdNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean open = new AtomicBoolean();
+    private final AtomicBoolean writesDropped = new AtomicBoolean();
+
+    public CacheCircuitBreaker(int failureThreshold, Duration slowCallThreshold) {
+        this.failureThreshold = failureThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+    }
+
+    public boolean isOpen() {
+        return open.get();
+    }
+
+    public void recordSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallThresholdNanos) {
+            recordFailure();
+        } else {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    public void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) open.set(true);
+    }
+
+    public void recordDroppedWrite() {
+        writesDropped.set(true);
+    }
+
+    public boolean resetDroppedWrites() {
+        return writesDropped.getAndSet(false);
+    }
+
+    public void close() {
+        consecutiveFailures.set(0);
+        open.set(false);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.userserv.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheHealthProbe {
+    private final ResilientCacheManager cacheManager;
+    private final RedisConnectionFactory connectionFactory;
+
+    @Scheduled(fixedDelayString = "${cache.circuit-breaker.probe-interval:5000}")
+    public void probe() {
+        CacheCircuitBreaker circuitBreaker = cacheManager.getCircuitBreaker();
+        if (!circuitBreaker.isOpen()) {
+            cacheManager.replayEvictions();
+            return;
+        }
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+        } catch (RuntimeException e) {
+            log.debug("Redis is still unavailable: {}", e.getMessage());
+            return;
+        }
+
+        if (!cacheManager.replayEvictions()) return;
+
+        try {
+            if (circuitBreaker.resetDroppedWrites()) cacheManager.clearDelegates();
+        } catch (RuntimeException e) {
+            circuitBreaker.recordDroppedWrite();
+            log.debug("Failed to clear stale cache entries: {}", e.getMessage());
+            return;
+        }
+
+        circuitBreaker.close();
+        log.info("Redis is reachable again, cache circuit closed");
+    }
+}
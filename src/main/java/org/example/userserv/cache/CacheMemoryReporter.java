@@ -0,0 +1,93 @@
+package org.example.userserv.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.memory-report.enabled", havingValue = "true")
+public class CacheMemoryReporter {
+    private static final byte[] USAGE = "USAGE".getBytes(StandardCharsets.UTF_8);
+
+    private final ResilientCacheManager cacheManager;
+    private final RedisConnectionFactory connectionFactory;
+    private final MeterRegistry meterRegistry;
+    private final int sampleSize;
+    private final Map<String, CacheMemoryUsage> latest = new ConcurrentHashMap<>();
+
+    public CacheMemoryReporter(ResilientCacheManager cacheManager, RedisConnectionFactory connectionFactory,
+                               MeterRegistry meterRegistry,
+                               @Value("${cache.memory-report.sample-size:1000}") int sampleSize) {
+        this.cacheManager = cacheManager;
+        this.connectionFactory = connectionFactory;
+        this.meterRegistry = meterRegistry;
+        this.sampleSize = sampleSize;
+    }
+
+    public Map<String, CacheMemoryUsage> report() {
+        Map<String, CacheMemoryUsage> report = new LinkedHashMap<>();
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            for (String name : cacheManager.getCacheNames()) {
+                report.put(name, measure(connection, name));
+            }
+        }
+
+        return report;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.memory-report.interval:300000}")
+    public void refresh() {
+        if (cacheManager.getCircuitBreaker().isOpen()) return;
+
+        try {
+            report().forEach((name, usage) -> {
+                if (latest.put(name, usage) == null) register(name);
+            });
+        } catch (RuntimeException e) {
+            log.debug("Failed to build cache memory report: {}", e.getMessage());
+        }
+    }
+
+    private void register(String cacheName) {
+        Gauge.builder("cache.memory.keys", latest, usages -> usages.get(cacheName).keys())
+                .tag("cache", cacheName).register(meterRegistry);
+        Gauge.builder("cache.memory.bytes", latest, usages -> usages.get(cacheName).estimatedBytes())
+                .tag("cache", cacheName).baseUnit("bytes").register(meterRegistry);
+    }
+
+    private CacheMemoryUsage measure(RedisConnection connection, String cacheName) {
+        ScanOptions options = ScanOptions.scanOptions().match(cacheName + "::*").count(1000).build();
+        long keys = 0;
+        long sampledKeys = 0;
+        long sampledBytes = 0;
+
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext()) {
+                byte[] key = cursor.next();
+                keys++;
+
+                if (sampledKeys < sampleSize && connection.execute("MEMORY", USAGE, key) instanceof Long bytes) {
+                    sampledKeys++;
+                    sampledBytes += bytes;
+                }
+            }
+        }
+
+        long estimatedBytes = sampledKeys == 0 ? 0 : sampledBytes * keys / sampledKeys;
+        return new CacheMemoryUsage(keys, sampledKeys, sampledBytes, estimatedBytes);
+    }
+}
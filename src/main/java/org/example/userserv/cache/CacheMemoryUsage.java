@@ -0,0 +1,4 @@
+package org.example.userserv.cache;
+
+public record CacheMemoryUsage(long keys, long sampledKeys, long sampledBytes, long estimatedBytes) {
+}
@@ -0,0 +1,55 @@
+package org.example.userserv.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RequiredArgsConstructor
+public class CascadingEvictionCache implements Cache {
+    private final Cache delegate;
+    private final List<Cache> dependents;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        dependents.forEach(c -> c.evict(key));
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        dependents.forEach(c -> c.evict(key));
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        dependents.forEach(Cache::clear);
+        delegate.clear();
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.userserv.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class KeyAccessStats {
+    private final int maxTrackedKeys;
+    private final Map<Object, Counter> counters = new ConcurrentHashMap<>();
+
+    public KeyAccessStats(int maxTrackedKeys) {
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public void recordRead(Object key, boolean hit) {
+        Counter counter = counter(key);
+        if (counter == null) return;
+
+        counter.reads.incrementAndGet();
+        if (!hit) counter.missPending = true;
+    }
+
+    public void recordPut(Object key) {
+        Counter counter = counter(key);
+        if (counter == null) return;
+
+        if (!counter.missPending) counter.writes.incrementAndGet();
+        counter.missPending = false;
+    }
+
+    public void recordWrite(Object key) {
+        Counter counter = counter(key);
+        if (counter != null) counter.writes.incrementAndGet();
+    }
+
+    public int reads(Object key) {
+        Counter counter = counters.get(key);
+        return counter == null ? 0 : counter.reads.get();
+    }
+
+    public int writes(Object key) {
+        Counter counter = counters.get(key);
+        return counter == null ? 0 : counter.writes.get();
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    public void decay() {
+        counters.values().removeIf(counter -> {
+            int reads = counter.reads.updateAndGet(r -> r / 2);
+            int writes = counter.writes.updateAndGet(w -> w / 2);
+            return reads == 0 && writes == 0 && !counter.missPending;
+        });
+    }
+
+    private Counter counter(Object key) {
+        Counter counter = counters.get(key);
+        if (counter == null && counters.size() < maxTrackedKeys) {
+            counter = counters.computeIfAbsent(key, k -> new Counter());
+        }
+
+        return counter;
+    }
+
+    private static final class Counter {
+        private final AtomicInteger reads = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+        private volatile boolean missPending;
+    }
+}
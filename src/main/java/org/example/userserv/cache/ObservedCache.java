@@ -0,0 +1,73 @@
+package org.example.userserv.cache;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+public class ObservedCache implements Cache {
+    static final String OBSERVATION_NAME = "userserv.cache";
+
+    private final Cache delegate;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return read(() -> delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return read(() -> delegate.get(key, type));
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return read(() -> delegate.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        observation("put").observe(() -> delegate.put(key, value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        observation("evict").observe(() -> delegate.evict(key));
+    }
+
+    @Override
+    public void clear() {
+        observation("clear").observe(delegate::clear);
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        Observation observation = observation("get");
+
+        return observation.observe(() -> {
+            T value = reader.get();
+            observation.lowCardinalityKeyValue("result", value != null ? "hit" : "miss");
+            return value;
+        });
+    }
+
+    private Observation observation(String operation) {
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("cache " + operation + " " + delegate.getName())
+                .lowCardinalityKeyValue("cache", delegate.getName())
+                .lowCardinalityKeyValue("operation", operation);
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.userserv.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ResilientCache implements Cache {
+    private static final int EVICT_ATTEMPTS = 2;
+    private final Cache delegate;
+    private final CacheCircuitBreaker circuitBreaker;
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingClear;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return read(key, () -> delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return read(key, () -> delegate.get(key, type));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) return (T) wrapper.get();
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (write(() -> delegate.put(key, value))) pendingEvictions.remove(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (circuitBreaker.isOpen() || !attempt(() -> delegate.evict(key))) {
+            pendingEvictions.add(key);
+            log.warn("Failed to evict {} from cache {}, queued for replay", key, getName());
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (circuitBreaker.isOpen() || !attempt(delegate::clear)) {
+            pendingClear = true;
+            log.warn("Failed to clear cache {}, queued for replay", getName());
+        }
+    }
+
+    public boolean replayEvictions() {
+        try {
+            if (pendingClear) {
+                delegate.clear();
+                pendingClear = false;
+                pendingEvictions.clear();
+            }
+            pendingEvictions.removeIf(key -> {
+                delegate.evict(key);
+                return true;
+            });
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Failed to replay evictions for cache {}: {}", getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean attempt(Runnable operation) {
+        for (int i = 0; i < EVICT_ATTEMPTS; i++) {
+            long start = System.nanoTime();
+            try {
+                operation.run();
+                circuitBreaker.recordSuccess(System.nanoTime() - start);
+                return true;
+            } catch (RuntimeException e) {
+                circuitBreaker.recordFailure();
+            }
+        }
+
+        return false;
+    }
+
+    private <T> T read(Object key, Supplier<T> operation) {
+        if (circuitBreaker.isOpen() || pendingClear || pendingEvictions.contains(key)) return null;
+
+        long start = System.nanoTime();
+        try {
+            T result = operation.get();
+            circuitBreaker.recordSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            return null;
+        }
+    }
+
+    private boolean write(Runnable operation) {
+        if (circuitBreaker.isOpen()) {
+            circuitBreaker.recordDroppedWrite();
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            operation.run();
+            circuitBreaker.recordSuccess(System.nanoTime() - start);
+            return true;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            circuitBreaker.recordDroppedWrite();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.userserv.cache;
+
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+public class ResilientCacheManager implements CacheManager {
+    private final CacheManager delegate;
+    private final CacheCircuitBreaker circuitBreaker;
+    private final AccessFrequencyTracker accessTracker;
+    private final Map<String, List<String>> dependentCaches;
+    private final ObservationRegistry observationRegistry;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    private final Map<String, ResilientCache> resilientCaches = new ConcurrentHashMap<>();
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) return cache;
+
+        cache = createCache(name);
+        if (cache == null) return null;
+
+        Cache existing = caches.putIfAbsent(name, cache);
+        return existing != null ? existing : cache;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public CacheCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public boolean replayEvictions() {
+        boolean replayed = true;
+        for (ResilientCache cache : resilientCaches.values()) replayed &= cache.replayEvictions();
+
+        return replayed;
+    }
+
+    public void clearDelegates() {
+        for (String name : delegate.getCacheNames()) {
+            Cache cache = delegate.getCache(name);
+            if (cache != null) cache.clear();
+        }
+    }
+
+    private Cache createCache(String name) {
+        Cache cache = delegate.getCache(name);
+        if (cache == null) return null;
+
+        Cache observed = new ObservedCache(cache, observationRegistry);
+        Cache resilient = resilientCaches.computeIfAbsent(name, n ->
+                new ResilientCache(new TrackingCache(observed, accessTracker.stats(n)), circuitBreaker));
+        List<String> dependents = dependentCaches.getOrDefault(name, List.of());
+        if (dependents.isEmpty()) return resilient;
+
+        return new CascadingEvictionCache(resilient,
+                dependents.stream().map(this::getCache).filter(Objects::nonNull).toList());
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.userserv.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public final class SerializedResponse {
+    private static final byte IDENTITY = 0;
+    private static final byte GZIP = 1;
+
+    private final byte[] body;
+    private final boolean gzipped;
+
+    private SerializedResponse(byte[] body, boolean gzipped) {
+        this.body = body;
+        this.gzipped = gzipped;
+    }
+
+    public static SerializedResponse of(byte[] json, int compressionThreshold) {
+        return json.length >= compressionThreshold
+                ? new SerializedResponse(gzip(json), true)
+                : new SerializedResponse(json, false);
+    }
+
+    public static SerializedResponse decode(byte[] encoded) {
+        return new SerializedResponse(Arrays.copyOfRange(encoded, 1, encoded.length), encoded[0] == GZIP);
+    }
+
+    public byte[] encode() {
+        byte[] encoded = new byte[body.length + 1];
+        encoded[0] = gzipped ? GZIP : IDENTITY;
+        System.arraycopy(body, 0, encoded, 1, body.length);
+
+        return encoded;
+    }
+
+    public boolean isGzipped() {
+        return gzipped;
+    }
+
+    public byte[] body() {
+        return body;
+    }
+
+    public byte[] identityBody() {
+        if (!gzipped) return body;
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.userserv.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import java.util.concurrent.Callable;
+
+@RequiredArgsConstructor
+public class TrackingCache implements Cache {
+    private final Cache delegate;
+    private final KeyAccessStats stats;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        stats.recordRead(key, wrapper != null);
+
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        stats.recordRead(key, value != null);
+
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        stats.recordPut(key);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        stats.recordWrite(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+}
@@ -2,43 +2,111 @@ package org.example.userserv.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.observation.ObservationRegistry;
+import org.example.userserv.cache.AccessFrequencyTracker;
+import org.example.userserv.cache.AdaptiveTtlFunction;
+import org.example.userserv.cache.CacheCircuitBreaker;
+import org.example.userserv.cache.ResilientCacheManager;
+import org.example.userserv.dto.CardPageResponse;
 import org.example.userserv.dto.CardResponse;
+import org.example.userserv.dto.UserProfileResponse;
 import org.example.userserv.dto.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
 @EnableCaching
+@EnableScheduling
 public class CacheConfig {
+    public static final Map<String, List<String>> DEPENDENT_CACHES =
+            Map.of("users", List.of("user-responses", "user-profiles"));
+
+    @Value("${cache.ttl.min:5m}")
+    private Duration minTtl;
+
+    @Value("${cache.ttl.max:6h}")
+    private Duration maxTtl;
+
+    @Value("${cache.ttl.hot-read-ratio:20}")
+    private double hotReadRatio;
+
+    @Bean
+    public AccessFrequencyTracker accessFrequencyTracker(
+            @Value("${cache.ttl.max-tracked-keys:100000}") int maxTrackedKeys) {
+        return new AccessFrequencyTracker(maxTrackedKeys);
+    }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               AccessFrequencyTracker accessTracker) {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
 
         Map<String, RedisCacheConfiguration> configs = new HashMap<>();
 
         configs.put("users", RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1))
+                .entryTtl(adaptiveTtl(accessTracker, "users"))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                         new Jackson2JsonRedisSerializer<>(mapper, UserResponse.class))));
 
         configs.put("cards", RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1))
+                .entryTtl(adaptiveTtl(accessTracker, "cards"))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                         new Jackson2JsonRedisSerializer<>(mapper, CardResponse.class))));
 
+        configs.put("user-profiles", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(adaptiveTtl(accessTracker, "user-profiles"))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(mapper, UserProfileResponse.class))));
+
+        configs.put("card-pages", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(adaptiveTtl(accessTracker, "card-pages"))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(mapper, CardPageResponse.class))));
+
+        configs.put("card-page-generations", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(maxTtl)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        RedisSerializer.string())));
+
+        configs.put("user-responses", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(adaptiveTtl(accessTracker, "user-responses"))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        RedisSerializer.byteArray())));
+
         return RedisCacheManager.builder(connectionFactory)
                 .withInitialCacheConfigurations(configs)
                 .build();
     }
+
+    private AdaptiveTtlFunction adaptiveTtl(AccessFrequencyTracker accessTracker, String cacheName) {
+        return new AdaptiveTtlFunction(accessTracker.stats(cacheName), minTtl, maxTtl, hotReadRatio);
+    }
+
+    @Bean
+    @Primary
+    public ResilientCacheManager cacheManager(
+            RedisCacheManager redisCacheManager,
+            AccessFrequencyTracker accessTracker,
+            ObservationRegistry observationRegistry,
+            @Value("${cache.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${cache.circuit-breaker.slow-call-threshold:100ms}") Duration slowCallThreshold) {
+        return new ResilientCacheManager(redisCacheManager,
+                new CacheCircuitBreaker(failureThreshold, slowCallThreshold), accessTracker, DEPENDENT_CACHES,
+                observationRegistry);
+    }
 }
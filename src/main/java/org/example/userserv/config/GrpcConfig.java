@@ -0,0 +1,49 @@
+package org.example.userserv.config;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.example.userserv.grpc.GrpcServerLifecycle;
+import org.example.userserv.grpc.JwtServerInterceptor;
+import org.example.userserv.grpc.ThrottlingServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(name = "grpc.server.enabled", havingValue = "true")
+public class GrpcConfig {
+
+    @Bean
+    public GrpcServerLifecycle grpcServer(
+            List<BindableService> services,
+            JwtServerInterceptor jwtServerInterceptor,
+            ThrottlingServerInterceptor throttlingServerInterceptor,
+            @Value("${grpc.server.port:9090}") int port,
+            @Value("${grpc.server.max-concurrent-calls-per-connection:100}") int maxConcurrentCalls,
+            @Value("${grpc.server.flow-control-window:1MB}") DataSize flowControlWindow,
+            @Value("${grpc.server.max-inbound-message-size:4MB}") DataSize maxInboundMessageSize,
+            @Value("${grpc.server.keep-alive-time:30s}") Duration keepAliveTime,
+            @Value("${grpc.server.shutdown-grace-period:10s}") Duration shutdownGracePeriod) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        NettyServerBuilder builder = NettyServerBuilder.forPort(port)
+                .executor(executor)
+                .maxConcurrentCallsPerConnection(maxConcurrentCalls)
+                .flowControlWindow((int) flowControlWindow.toBytes())
+                .maxInboundMessageSize((int) maxInboundMessageSize.toBytes())
+                .keepAliveTime(keepAliveTime.toMillis(), TimeUnit.MILLISECONDS)
+                .intercept(throttlingServerInterceptor)
+                .intercept(jwtServerInterceptor);
+        services.forEach(builder::addService);
+        Server server = builder.build();
+
+        return new GrpcServerLifecycle(server, executor, shutdownGracePeriod);
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.userserv.config;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,29 +9,34 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.userserv.util.SecurityUtil;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.UUID;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
     private final SecurityUtil securityUtil;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws IOException, ServletException {
         String token = getToken(request);
 
-        if (token != null && securityUtil.validateToken(token)) authenticate(token);
+        if (token != null) verify(token).ifPresent(this::authenticate);
 
         filterChain.doFilter(request, response);
     }
 
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return OperationalEndpoints.matches(request);
+    }
+
     private String getToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
 
@@ -39,11 +46,18 @@ public class JwtFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private void authenticate(String token) {
-        UUID userId = securityUtil.getUserIdFromToken(token);
-        UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+    private Optional<Authentication> verify(String token) {
+        Observation observation = Observation.createNotStarted("userserv.jwt", observationRegistry)
+                .contextualName("jwt verify");
+
+        return observation.observe(() -> {
+            Optional<Authentication> authentication = securityUtil.parseAuthentication(token);
+            observation.lowCardinalityKeyValue("result", authentication.isPresent() ? "valid" : "invalid");
+            return authentication;
+        });
+    }
 
+    private void authenticate(Authentication authentication) {
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
@@ -0,0 +1,78 @@
+package org.example.userserv.config;
+
+import org.example.userserv.dto.CardOperationResult;
+import org.example.userserv.dto.CardPageResponse;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.dto.UserCardRow;
+import org.example.userserv.dto.UserProfileResponse;
+import org.example.userserv.dto.UserResponse;
+import org.example.userserv.dto.UserSearchResponse;
+import org.example.userserv.entity.Card;
+import org.example.userserv.entity.User;
+import org.example.userserv.exception.ErrorResponse;
+import org.example.userserv.mapper.CardMapper;
+import org.example.userserv.mapper.UserMapper;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import java.util.stream.Stream;
+
+public class NativeHints implements RuntimeHintsRegistrar {
+    private static final String[] MAPPERS = {
+            "org.example.userserv.mapper.UserMapperImpl",
+            "org.example.userserv.mapper.CardMapperImpl"
+    };
+
+    private static final String[] JJWT_SERVICES = {
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    private static final Class<?>[] SERIALIZED_TYPES = {
+            UserResponse.class, CardResponse.class, UserProfileResponse.class, CardPageResponse.class,
+            UserSearchResponse.class, UserCardRow.class, CardOperationResult.class, ErrorResponse.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        Stream.of(MAPPERS).forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        Stream.of(UserMapper.class, CardMapper.class).forEach(type ->
+                hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(type)));
+
+        Stream.of(JJWT_SERVICES).forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        Stream.of(User.class, Card.class).forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS));
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), SERIALIZED_TYPES);
+
+        hints.resources().registerPattern("db/changelog/**");
+    }
+}
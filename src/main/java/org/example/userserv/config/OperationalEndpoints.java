@@ -0,0 +1,22 @@
+package org.example.userserv.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import java.util.List;
+
+public final class OperationalEndpoints {
+    public static final List<String> PATTERNS = List.of(
+            "/actuator/health/**", "/actuator/info", "/favicon.ico", "/static/**");
+    static final RequestMatcher MATCHER = new OrRequestMatcher(PATTERNS.stream()
+            .map(pattern -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(pattern))
+            .toList());
+
+    private OperationalEndpoints() {
+    }
+
+    static boolean matches(HttpServletRequest request) {
+        return MATCHER.matches(request);
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.userserv.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.userserv.cache.ResilientCacheManager;
+import org.example.userserv.ratelimit.LoadShedder;
+import org.example.userserv.ratelimit.LocalRateLimiter;
+import org.example.userserv.ratelimit.RateLimiter;
+import org.example.userserv.ratelimit.RedisRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+
+@Configuration
+public class RateLimitConfig {
+    @Value("${rate-limit.capacity:100}")
+    private double capacity;
+
+    @Value("${rate-limit.refill-per-second:50}")
+    private double refillPerSecond;
+
+    @Bean
+    public LocalRateLimiter localRateLimiter() {
+        return new LocalRateLimiter(capacity, refillPerSecond);
+    }
+
+    @Bean
+    public RateLimiter rateLimiter(LocalRateLimiter localRateLimiter, StringRedisTemplate redisTemplate,
+                                   ResilientCacheManager cacheManager,
+                                   @Value("${rate-limit.store:local}") String store) {
+        if ("redis".equalsIgnoreCase(store)) {
+            return new RedisRateLimiter(redisTemplate, localRateLimiter, cacheManager.getCircuitBreaker(),
+                    capacity, refillPerSecond);
+        }
+
+        return localRateLimiter;
+    }
+
+    @Bean
+    public LoadShedder loadShedder(DataSource dataSource,
+                                   @Value("${load-shedding.max-in-flight:200}") int maxInFlight,
+                                   @Value("${load-shedding.max-pending-connections:20}") int maxPendingConnections) {
+        return new LoadShedder(dataSource, maxInFlight, maxPendingConnections);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimiter rateLimiter, LoadShedder loadShedder, ObjectMapper mapper) {
+        return new RateLimitFilter(rateLimiter, loadShedder, mapper);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+
+        return registration;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.idle-eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        localRateLimiter().evictIdle();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.userserv.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.exception.ErrorResponse;
+import org.example.userserv.ratelimit.LoadShedder;
+import org.example.userserv.ratelimit.RateLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimiter rateLimiter;
+    private final LoadShedder loadShedder;
+    private final ObjectMapper mapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws IOException, ServletException {
+        UUID userId = getUserId();
+        if (userId != null && !rateLimiter.tryAcquire(userId)) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded");
+            return;
+        }
+
+        if (!loadShedder.tryEnter()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Server is overloaded");
+            return;
+        }
+
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                request.getAsyncContext().addListener(new ExitOnComplete());
+            } else {
+                loadShedder.exit();
+            }
+        }
+    }
+
+    private UUID getUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication != null && authentication.getPrincipal() instanceof UUID id ? id : null;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+
+        mapper.writeValue(response.getWriter(), new ErrorResponse(status, status.getReasonPhrase(), message));
+    }
+
+    private final class ExitOnComplete implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            loadShedder.exit();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
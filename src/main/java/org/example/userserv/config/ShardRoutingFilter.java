@@ -0,0 +1,38 @@
+package org.example.userserv.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.sharding.ShardContext;
+import org.example.userserv.sharding.ShardRouter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ShardRoutingFilter extends OncePerRequestFilter {
+    private final ShardRouter shardRouter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !shardRouter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws IOException, ServletException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UUID userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try (ShardContext.Scope ignored = shardRouter.enter(userId)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
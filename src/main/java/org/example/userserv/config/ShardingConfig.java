@@ -0,0 +1,121 @@
+package org.example.userserv.config;
+
+import org.example.userserv.sharding.ConsistentHashRing;
+import org.example.userserv.sharding.JdbcShardDirectory;
+import org.example.userserv.sharding.LocalShardDirectory;
+import org.example.userserv.sharding.ShardDataSources;
+import org.example.userserv.sharding.ShardDirectory;
+import org.example.userserv.sharding.ShardMoveRepository;
+import org.example.userserv.sharding.ShardRebalancer;
+import org.example.userserv.sharding.ShardRouter;
+import org.example.userserv.sharding.ShardRoutingDataSource;
+import org.example.userserv.sharding.ShardedLiquibase;
+import org.example.userserv.sharding.ShardingProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+    private static final String ENABLED = "sharding.enabled";
+    private static final String DIRECTORY_CHANGE_LOG = "classpath:/db/changelog/directory/db.changelog-directory.xml";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true")
+    public ShardDataSources shardDataSources(ShardingProperties properties,
+                                             @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView)
+            throw new IllegalStateException("Sharding requires spring.jpa.open-in-view=false");
+
+        return new ShardDataSources(properties);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true")
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(new HashMap<>(shardDataSources.shards()));
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.shard(shardDataSources.defaultShard()));
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = {ENABLED, "spring.liquibase.enabled"}, havingValue = "true")
+    public ShardedLiquibase liquibase(ShardDataSources shardDataSources, ShardingProperties properties,
+                                      ResourceLoader resourceLoader,
+                                      @Value("${spring.liquibase.change-log}") String changeLog,
+                                      @Value("${spring.liquibase.parameters.cards.partition-count:16}")
+                                      String partitionCount) {
+        return new ShardedLiquibase(shardDataSources, changeLog, DIRECTORY_CHANGE_LOG,
+                Map.of("cards.partition-count", partitionCount), properties.getMaxShards(), resourceLoader);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true")
+    public ShardDirectory shardDirectory(ShardDataSources shardDataSources) {
+        return new JdbcShardDirectory(new NamedParameterJdbcTemplate(shardDataSources.directory()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "false", matchIfMissing = true)
+    public ShardDirectory localShardDirectory() {
+        return new LocalShardDirectory();
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties, ShardDirectory shardDirectory) {
+        if (!properties.isEnabled()) return ShardRouter.disabled();
+
+        List<Integer> configured = properties.getShards().stream().map(ShardingProperties.Shard::getIndex).toList();
+        ConsistentHashRing ring = ring(properties.ringOrAllShards(), configured, properties.getVirtualNodes());
+        ConsistentHashRing targetRing = properties.getTargetRing().isEmpty() ? null
+                : ring(properties.getTargetRing(), configured, properties.getVirtualNodes());
+
+        return new ShardRouter(ring, targetRing, shardDirectory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = {ENABLED, "sharding.resharding.enabled"}, havingValue = "true")
+    public ShardRebalancer shardRebalancer(ShardRouter shardRouter, ShardDataSources shardDataSources,
+                                           ShardDirectory shardDirectory, ShardingProperties properties) {
+        return new ShardRebalancer(shardRouter, new ShardMoveRepository(shardDataSources, shardDirectory),
+                shardDataSources.directory(), properties.getResharding().getBatchSize(),
+                properties.getResharding().getPause());
+    }
+
+    @Bean
+    public ShardRoutingFilter shardRoutingFilter(ShardRouter shardRouter) {
+        return new ShardRoutingFilter(shardRouter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShardRoutingFilter> shardRoutingFilterRegistration(
+            ShardRoutingFilter shardRoutingFilter) {
+        FilterRegistrationBean<ShardRoutingFilter> registration = new FilterRegistrationBean<>(shardRoutingFilter);
+        registration.setEnabled(false);
+
+        return registration;
+    }
+
+    private static ConsistentHashRing ring(List<Integer> members, List<Integer> configured, int virtualNodes) {
+        if (!configured.containsAll(members))
+            throw new IllegalStateException("Hash ring " + members + " references unconfigured shards");
+
+        return new ConsistentHashRing(members, virtualNodes);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.userserv.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+@Slf4j
+@Component
+public class StartupReport {
+    private static final int SLOWEST_BEANS = 10;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        log.info("Application ready in {} ms (JVM uptime {} ms)", event.getTimeTaken().toMillis(),
+                ManagementFactory.getRuntimeMXBean().getUptime());
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) return;
+
+        List<StartupTimeline.TimelineEvent> events = buffering.getBufferedTimeline().getEvents();
+        events.stream()
+                .filter(e -> e.getStartupStep().getParentId() == null)
+                .forEach(e -> log.info("Startup phase {}: {} ms", e.getStartupStep().getName(),
+                        e.getDuration().toMillis()));
+
+        events.stream()
+                .filter(e -> "spring.beans.instantiate".equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .forEach(e -> log.info("Slow bean {}: {} ms", beanName(e.getStartupStep()),
+                        e.getDuration().toMillis()));
+    }
+
+    private static String beanName(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> "beanName".equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("unknown");
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.userserv.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.example.userserv.mapper.UserMapper;
+import org.example.userserv.tracing.ObservedComponentPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.components.enabled", havingValue = "true", matchIfMissing = true)
+    public static ObservedComponentPostProcessor observedComponentPostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new ObservedComponentPostProcessor(observationRegistry, UserMapper.class.getPackageName());
+    }
+}
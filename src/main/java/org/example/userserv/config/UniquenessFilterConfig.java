@@ -0,0 +1,43 @@
+package org.example.userserv.config;
+
+import org.example.userserv.util.UniquenessFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Configuration
+public class UniquenessFilterConfig {
+
+    @Bean
+    public RedisMessageListenerContainer uniquenessFilterListenerContainer(
+            RedisConnectionFactory connectionFactory, List<UniquenessFilter> filters) {
+        Map<String, UniquenessFilter> filtersByName = filters.stream()
+                .collect(Collectors.toMap(UniquenessFilter::getName, Function.identity()));
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(':');
+            UniquenessFilter filter = separator > 0 ? filtersByName.get(body.substring(0, separator)) : null;
+            if (filter != null) filter.putRemote(body.substring(separator + 1));
+        }, new ChannelTopic(UniquenessFilter.CHANNEL));
+
+        return container;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFilters(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBeansOfType(UniquenessFilter.class).values()
+                .forEach(filter -> Thread.ofVirtual().name("uniqueness-filter-" + filter.getName()).start(filter::load));
+    }
+}
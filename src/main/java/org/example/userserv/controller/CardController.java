@@ -1,9 +1,16 @@
 package org.example.userserv.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.userserv.dto.CardBatchRequest;
+import org.example.userserv.dto.CardOperationResult;
 import org.example.userserv.dto.CardRequest;
 import org.example.userserv.dto.CardResponse;
+import org.example.userserv.service.CardBatchService;
 import org.example.userserv.service.CardService;
+import org.example.userserv.util.FieldSelection;
+import org.example.userserv.util.NdjsonWriter;
+import org.example.userserv.util.SparseFieldsWriter;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,7 +20,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 
 @RestController
@@ -21,23 +30,57 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CardController {
     private final CardService cardService;
+    private final CardBatchService cardBatchService;
+    private final NdjsonWriter ndjsonWriter;
+    private final SparseFieldsWriter sparseFieldsWriter;
 
     @GetMapping("/{id}")
     public ResponseEntity<CardResponse> getCardById(@PathVariable("id") long id) {
         return ResponseEntity.ok(cardService.findById(id));
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<byte[]> getCardFieldsById(@PathVariable("id") long id,
+                                                    @RequestParam("fields") String fields) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sparseFieldsWriter.writeCards(cardService.findById(id),
+                        FieldSelection.parse(fields, FieldSelection.CARD_FIELDS)));
+    }
+
     @PostMapping("/ids")
     public ResponseEntity<List<CardResponse>> getCardsByIds(@RequestBody List<Long> ids) {
         return ResponseEntity.ok(cardService.findByIds(ids));
     }
 
+    @PostMapping(value = "/ids", params = "fields")
+    public ResponseEntity<byte[]> getCardFieldsByIds(@RequestBody List<Long> ids,
+                                                     @RequestParam("fields") String fields) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sparseFieldsWriter.writeCards(cardService.findByIds(ids),
+                        FieldSelection.parse(fields, FieldSelection.CARD_FIELDS)));
+    }
+
+    @PostMapping(value = "/ids", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCardsByIds(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonWriter.write(cardService.streamByIds(ids)));
+    }
+
     @PostMapping
     public ResponseEntity<CardResponse> createCard(
             @RequestBody @Validated(CardRequest.CreateValidation.class) CardRequest cardRequest) {
         return ResponseEntity.ok(cardService.create(cardRequest));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<CardOperationResult>> executeBatch(
+            @RequestBody @Validated CardBatchRequest cardBatchRequest) {
+        return ResponseEntity.ok(cardBatchService.execute(cardBatchRequest));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CardResponse> updateCard(@PathVariable("id") long id,
                                                    @RequestBody @Validated(CardRequest.UpdateValidation.class)
@@ -1,10 +1,25 @@
 package org.example.userserv.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.userserv.cache.SerializedResponse;
+import org.example.userserv.dto.CardPageResponse;
+import org.example.userserv.dto.UserProfileResponse;
 import org.example.userserv.dto.UserRequest;
 import org.example.userserv.dto.UserResponse;
+import org.example.userserv.dto.UserSearchResponse;
+import org.example.userserv.service.CardPageService;
+import org.example.userserv.service.SerializedUserService;
+import org.example.userserv.service.UserSearchService;
 import org.example.userserv.service.UserService;
+import org.example.userserv.util.AcceptEncoding;
+import org.example.userserv.util.EmailUtil;
+import org.example.userserv.util.FieldSelection;
+import org.example.userserv.util.NdjsonWriter;
+import org.example.userserv.util.SparseFieldsWriter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,8 +27,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,10 +40,41 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final SerializedUserService serializedUserService;
+    private final UserSearchService userSearchService;
+    private final CardPageService cardPageService;
+    private final NdjsonWriter ndjsonWriter;
+    private final SparseFieldsWriter sparseFieldsWriter;
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable("id") UUID id) {
-        return ResponseEntity.ok(userService.findById(id));
+    public ResponseEntity<byte[]> getUserById(
+            @PathVariable("id") UUID id,
+            @RequestParam(value = "cards", defaultValue = "true") boolean includeCards,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        SerializedResponse response;
+        if (fields != null) {
+            response = serializedUserService.findById(id, FieldSelection.parse(fields, FieldSelection.USER_FIELDS));
+        } else {
+            response = includeCards ? serializedUserService.findById(id) : serializedUserService.findProfileById(id);
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (response.isGzipped() && AcceptEncoding.accepts(acceptEncoding, "gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.body());
+        }
+
+        return builder.body(response.identityBody());
+    }
+
+    @GetMapping("/{id}/cards")
+    public ResponseEntity<CardPageResponse> getUserCards(
+            @PathVariable("id") UUID id,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(cardPageService.findByUserId(id, after, limit));
     }
 
     @PostMapping("/ids")
@@ -33,9 +82,60 @@ public class UserController {
         return ResponseEntity.ok(userService.findByIds(ids));
     }
 
+    @PostMapping(value = "/ids", params = "fields")
+    public ResponseEntity<byte[]> getUserFieldsByIds(@RequestBody List<UUID> ids,
+                                                     @RequestParam("fields") String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.USER_FIELDS);
+        List<? extends UserProfileResponse> users = selection.includes("cards")
+                ? userService.findByIds(ids)
+                : userService.findProfilesByIds(ids);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sparseFieldsWriter.writeUsers(users, selection));
+    }
+
+    @PostMapping(value = "/ids", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsersByIds(@RequestBody List<UUID> ids) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonWriter.write(userService.streamByIds(ids)));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserSearchResponse> searchUsers(
+            @RequestParam("surname") String surname,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(userSearchService.search(surname, name, fuzzy, cursor, limit));
+    }
+
     @GetMapping("/email/{email}")
-    public ResponseEntity<UserResponse> getUserByEmail(@PathVariable("email") String email) {
-        return ResponseEntity.ok(userService.findByEmail(email));
+    public ResponseEntity<UserProfileResponse> getUserByEmail(
+            @PathVariable("email") String email,
+            @RequestParam(value = "cards", defaultValue = "true") boolean includeCards) {
+        String normalized = EmailUtil.normalize(email);
+
+        return ResponseEntity.ok(includeCards
+                ? userService.findByEmail(normalized)
+                : userService.findProfileByEmail(normalized));
+    }
+
+    @GetMapping(value = "/email/{email}", params = "fields")
+    public ResponseEntity<byte[]> getUserFieldsByEmail(@PathVariable("email") String email,
+                                                       @RequestParam("fields") String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.USER_FIELDS);
+        String normalized = EmailUtil.normalize(email);
+        UserProfileResponse user = selection.includes("cards")
+                ? userService.findByEmail(normalized)
+                : userService.findProfileByEmail(normalized);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sparseFieldsWriter.writeUsers(user, selection));
     }
 
     @PostMapping
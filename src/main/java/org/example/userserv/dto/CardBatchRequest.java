@@ -0,0 +1,15 @@
+package org.example.userserv.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class CardBatchRequest {
+    private boolean atomic;
+
+    @NotEmpty(message = "Operations can't be empty")
+    private List<@Valid CardOperation> operations = new ArrayList<>();
+}
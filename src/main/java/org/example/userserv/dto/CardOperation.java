@@ -0,0 +1,16 @@
+package org.example.userserv.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class CardOperation {
+    public enum Type { CREATE, UPDATE, DELETE }
+
+    @NotNull(message = "Operation type can't be null")
+    private Type type;
+
+    private Long id;
+
+    private CardRequest card;
+}
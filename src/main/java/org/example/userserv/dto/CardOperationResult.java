@@ -0,0 +1,17 @@
+package org.example.userserv.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardOperationResult {
+    public enum Status { APPLIED, FAILED, SKIPPED }
+
+    private int index;
+    private Status status;
+    private CardResponse card;
+    private String error;
+}
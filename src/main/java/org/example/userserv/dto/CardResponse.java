@@ -1,5 +1,6 @@
 package org.example.userserv.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDate;
@@ -7,6 +8,7 @@ import java.util.UUID;
 
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 public class CardResponse {
     private Long id;
     private String number;
@@ -0,0 +1,8 @@
+package org.example.userserv.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record UserCardRow(UUID id, String name, String surname, LocalDate birthDate, String email,
+                          Long cardId, String cardNumber, String cardHolder, LocalDate cardExpirationDate) {
+}
@@ -0,0 +1,18 @@
+package org.example.userserv.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileResponse {
+    private UUID id;
+    private String name;
+    private String surname;
+    private LocalDate birthDate;
+    private String email;
+}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.groups.Default;
 import lombok.Data;
+import org.example.userserv.util.EmailUtil;
 import java.time.LocalDate;
 
 @Data
@@ -32,4 +33,8 @@ public class UserRequest {
     @Email(message = "Incorrect email format", groups = {CreateValidation.class, UpdateValidation.class})
     @Size(max = 64, message = "Email should be less than 64 characters")
     private String email;
+
+    public void setEmail(String email) {
+        this.email = EmailUtil.normalize(email);
+    }
 }
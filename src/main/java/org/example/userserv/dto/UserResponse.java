@@ -1,19 +1,16 @@
 package org.example.userserv.dto;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import java.time.LocalDate;
+import lombok.ToString;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Data
 @NoArgsConstructor
-public class UserResponse {
-    private UUID id;
-    private String name;
-    private String surname;
-    private LocalDate birthDate;
-    private String email;
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class UserResponse extends UserProfileResponse {
     private List<CardResponse> cards = new ArrayList<>();
 }
@@ -0,0 +1,15 @@
+package org.example.userserv.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResponse {
+    private List<UserResponse> users = new ArrayList<>();
+    private String nextCursor;
+}
@@ -0,0 +1,7 @@
+package org.example.userserv.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(int size, int maxSize) {
+        super("Batch of " + size + " items exceeds the limit of " + maxSize);
+    }
+}
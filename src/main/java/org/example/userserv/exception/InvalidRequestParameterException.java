@@ -0,0 +1,11 @@
+package org.example.userserv.exception;
+
+public class InvalidRequestParameterException extends RuntimeException {
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
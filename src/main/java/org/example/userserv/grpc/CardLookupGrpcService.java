@@ -0,0 +1,42 @@
+package org.example.userserv.grpc;
+
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.grpc.v1.CardBatch;
+import org.example.userserv.grpc.v1.CardIds;
+import org.example.userserv.grpc.v1.CardLookupGrpc;
+import org.example.userserv.service.CardService;
+import org.example.userserv.service.ChunkedLookupExecutor;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CardLookupGrpcService extends CardLookupGrpc.CardLookupImplBase {
+    private final CardService cardService;
+    private final ChunkedLookupExecutor chunkedLookupExecutor;
+    private final FlowControlledStreamer streamer;
+
+    @Override
+    public void getCardsByIds(CardIds request, StreamObserver<CardBatch> responseObserver) {
+        try {
+            responseObserver.onNext(GrpcMessages.toCardBatch(cardService.findByIds(request.getIdsList())));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcExceptionHandler.toStatus(e));
+        }
+    }
+
+    @Override
+    public void streamCardsByIds(CardIds request, StreamObserver<CardBatch> responseObserver) {
+        List<Long> ids;
+        try {
+            ids = chunkedLookupExecutor.distinct(request.getIdsList());
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcExceptionHandler.toStatus(e));
+            return;
+        }
+
+        streamer.stream(ids, chunk -> GrpcMessages.toCardBatch(cardService.findByIds(chunk)), responseObserver);
+    }
+}
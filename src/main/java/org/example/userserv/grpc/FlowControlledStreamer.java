@@ -0,0 +1,63 @@
+package org.example.userserv.grpc;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+public class FlowControlledStreamer {
+    private final int chunkSize;
+
+    public FlowControlledStreamer(@Value("${batch-lookup.chunk-size:500}") int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public <I, T> void stream(List<I> ids, Function<List<I>, T> loader, StreamObserver<T> responseObserver) {
+        ServerCallStreamObserver<T> observer = (ServerCallStreamObserver<T>) responseObserver;
+        ChunkPump<I, T> pump = new ChunkPump<>(ids, loader, observer);
+
+        observer.setOnCancelHandler(pump::cancel);
+        observer.setOnReadyHandler(pump);
+    }
+
+    private final class ChunkPump<I, T> implements Runnable {
+        private final List<I> ids;
+        private final Function<List<I>, T> loader;
+        private final ServerCallStreamObserver<T> observer;
+        private int next;
+        private boolean done;
+
+        private ChunkPump(List<I> ids, Function<List<I>, T> loader, ServerCallStreamObserver<T> observer) {
+            this.ids = ids;
+            this.loader = loader;
+            this.observer = observer;
+        }
+
+        @Override
+        public void run() {
+            while (!done && observer.isReady()) {
+                if (next >= ids.size()) {
+                    done = true;
+                    observer.onCompleted();
+                    return;
+                }
+
+                List<I> chunk = ids.subList(next, Math.min(next + chunkSize, ids.size()));
+                next += chunk.size();
+                try {
+                    observer.onNext(loader.apply(chunk));
+                } catch (RuntimeException e) {
+                    done = true;
+                    observer.onError(GrpcExceptionHandler.toStatus(e));
+                }
+            }
+        }
+
+        private void cancel() {
+            done = true;
+        }
+    }
+}
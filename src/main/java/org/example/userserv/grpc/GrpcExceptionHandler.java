@@ -0,0 +1,27 @@
+package org.example.userserv.grpc;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.example.userserv.exception.BatchTooLargeException;
+import org.example.userserv.exception.CardNotFoundException;
+import org.example.userserv.exception.UserNotFoundException;
+import org.springframework.security.access.AccessDeniedException;
+
+public final class GrpcExceptionHandler {
+
+    private GrpcExceptionHandler() {
+    }
+
+    public static StatusRuntimeException toStatus(RuntimeException ex) {
+        Status status = switch (ex) {
+            case UserNotFoundException e -> Status.NOT_FOUND.withDescription("User not found");
+            case CardNotFoundException e -> Status.NOT_FOUND.withDescription("Card not found");
+            case BatchTooLargeException e -> Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage());
+            case IllegalArgumentException e -> Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+            case AccessDeniedException e -> Status.PERMISSION_DENIED.withDescription(e.getMessage());
+            default -> Status.INTERNAL.withDescription(ex.getMessage());
+        };
+
+        return status.withCause(ex).asRuntimeException();
+    }
+}
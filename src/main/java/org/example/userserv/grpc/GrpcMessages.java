@@ -0,0 +1,68 @@
+package org.example.userserv.grpc;
+
+import com.google.protobuf.ByteString;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.dto.UserResponse;
+import org.example.userserv.grpc.v1.Card;
+import org.example.userserv.grpc.v1.CardBatch;
+import org.example.userserv.grpc.v1.User;
+import org.example.userserv.grpc.v1.UserBatch;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+public final class GrpcMessages {
+    private static final int UUID_LENGTH = 16;
+
+    private GrpcMessages() {
+    }
+
+    public static User toMessage(UserResponse user) {
+        User.Builder builder = User.newBuilder()
+                .setId(toBytes(user.getId()))
+                .setName(user.getName())
+                .setSurname(user.getSurname())
+                .setBirthDate(user.getBirthDate().toEpochDay())
+                .setEmail(user.getEmail());
+        user.getCards().forEach(card -> builder.addCards(toMessage(card)));
+
+        return builder.build();
+    }
+
+    public static Card toMessage(CardResponse card) {
+        return Card.newBuilder()
+                .setId(card.getId())
+                .setNumber(card.getNumber())
+                .setHolder(card.getHolder())
+                .setExpirationDate(card.getExpirationDate().toEpochDay())
+                .setUserId(toBytes(card.getUserId()))
+                .build();
+    }
+
+    public static UserBatch toUserBatch(List<UserResponse> users) {
+        return UserBatch.newBuilder().addAllUsers(users.stream().map(GrpcMessages::toMessage).toList()).build();
+    }
+
+    public static CardBatch toCardBatch(List<CardResponse> cards) {
+        return CardBatch.newBuilder().addAllCards(cards.stream().map(GrpcMessages::toMessage).toList()).build();
+    }
+
+    public static ByteString toBytes(UUID id) {
+        return ByteString.copyFrom(ByteBuffer.allocate(UUID_LENGTH)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+    }
+
+    public static UUID toUuid(ByteString bytes) {
+        if (bytes.size() != UUID_LENGTH)
+            throw new IllegalArgumentException("User id must be " + UUID_LENGTH + " bytes, got " + bytes.size());
+
+        ByteBuffer buffer = bytes.asReadOnlyByteBuffer();
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    public static List<UUID> toUuids(List<ByteString> ids) {
+        return ids.stream().map(GrpcMessages::toUuid).toList();
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.userserv.grpc;
+
+import io.grpc.Context;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.util.SecurityUtil;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class JwtServerInterceptor implements ServerInterceptor {
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    static final Context.Key<UUID> USER_ID = Context.key("userId");
+
+    private final SecurityUtil securityUtil;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        Optional<UUID> userId = Optional.ofNullable(getToken(headers)).flatMap(securityUtil::parseUserId);
+        if (userId.isEmpty()) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Missing or invalid bearer token"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(userId.get(), null, Collections.emptyList());
+
+        Context previous = Context.current().withValue(USER_ID, userId.get()).attach();
+        try {
+            return new AuthenticatedListener<>(next.startCall(call, headers), authentication);
+        } finally {
+            Context.current().detach(previous);
+        }
+    }
+
+    private String getToken(Metadata headers) {
+        String bearerToken = headers.get(AUTHORIZATION);
+
+        if (bearerToken != null && bearerToken.startsWith("Bearer "))
+            return bearerToken.substring(7);
+
+        return null;
+    }
+
+    private static final class AuthenticatedListener<ReqT>
+            extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+        private final Authentication authentication;
+
+        private AuthenticatedListener(ServerCall.Listener<ReqT> delegate, Authentication authentication) {
+            super(delegate);
+            this.authentication = authentication;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            authenticated(() -> super.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            authenticated(super::onHalfClose);
+        }
+
+        @Override
+        public void onReady() {
+            authenticated(super::onReady);
+        }
+
+        @Override
+        public void onCancel() {
+            authenticated(super::onCancel);
+        }
+
+        @Override
+        public void onComplete() {
+            authenticated(super::onComplete);
+        }
+
+        private void authenticated(Runnable callback) {
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            try {
+                callback.run();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+    }
+}
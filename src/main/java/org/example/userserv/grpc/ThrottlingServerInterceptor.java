@@ -0,0 +1,76 @@
+package org.example.userserv.grpc;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.ratelimit.LoadShedder;
+import org.example.userserv.ratelimit.RateLimiter;
+import org.springframework.stereotype.Component;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@RequiredArgsConstructor
+public class ThrottlingServerInterceptor implements ServerInterceptor {
+    private final RateLimiter rateLimiter;
+    private final LoadShedder loadShedder;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        UUID userId = JwtServerInterceptor.USER_ID.get();
+        if (userId != null && !rateLimiter.tryAcquire(userId))
+            return reject(call, Status.RESOURCE_EXHAUSTED.withDescription("Rate limit exceeded"));
+
+        if (!loadShedder.tryEnter())
+            return reject(call, Status.UNAVAILABLE.withDescription("Server is overloaded"));
+
+        try {
+            return new ExitOnCompletion<>(next.startCall(call, headers));
+        } catch (RuntimeException e) {
+            loadShedder.exit();
+            throw e;
+        }
+    }
+
+    private <ReqT, RespT> ServerCall.Listener<ReqT> reject(ServerCall<ReqT, RespT> call, Status status) {
+        call.close(status, new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+
+    private final class ExitOnCompletion<ReqT>
+            extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+        private final AtomicBoolean exited = new AtomicBoolean();
+
+        private ExitOnCompletion(ServerCall.Listener<ReqT> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void onComplete() {
+            try {
+                super.onComplete();
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public void onCancel() {
+            try {
+                super.onCancel();
+            } finally {
+                exit();
+            }
+        }
+
+        private void exit() {
+            if (exited.compareAndSet(false, true)) loadShedder.exit();
+        }
+    }
+}
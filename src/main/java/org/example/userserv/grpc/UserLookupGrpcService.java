@@ -0,0 +1,44 @@
+package org.example.userserv.grpc;
+
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.grpc.v1.UserBatch;
+import org.example.userserv.grpc.v1.UserIds;
+import org.example.userserv.grpc.v1.UserLookupGrpc;
+import org.example.userserv.service.ChunkedLookupExecutor;
+import org.example.userserv.service.UserService;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class UserLookupGrpcService extends UserLookupGrpc.UserLookupImplBase {
+    private final UserService userService;
+    private final ChunkedLookupExecutor chunkedLookupExecutor;
+    private final FlowControlledStreamer streamer;
+
+    @Override
+    public void getUsersByIds(UserIds request, StreamObserver<UserBatch> responseObserver) {
+        try {
+            responseObserver.onNext(GrpcMessages.toUserBatch(
+                    userService.findByIds(GrpcMessages.toUuids(request.getIdsList()))));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcExceptionHandler.toStatus(e));
+        }
+    }
+
+    @Override
+    public void streamUsersByIds(UserIds request, StreamObserver<UserBatch> responseObserver) {
+        List<UUID> ids;
+        try {
+            ids = chunkedLookupExecutor.distinct(GrpcMessages.toUuids(request.getIdsList()));
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcExceptionHandler.toStatus(e));
+            return;
+        }
+
+        streamer.stream(ids, chunk -> GrpcMessages.toUserBatch(userService.findByIds(chunk)), responseObserver);
+    }
+}
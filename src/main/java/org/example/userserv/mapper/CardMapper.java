@@ -9,6 +9,7 @@ import org.mapstruct.MappingConstants;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface CardMapper {
+    @Mapping(target = "numberHash", ignore = true)
     Card toEntity(CardRequest cardRequest);
 
     @Mapping(source = "user.id", target = "userId")
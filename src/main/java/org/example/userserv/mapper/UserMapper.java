@@ -1,13 +1,38 @@
 package org.example.userserv.mapper;
 
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.dto.UserCardRow;
 import org.example.userserv.dto.UserRequest;
 import org.example.userserv.dto.UserResponse;
 import org.example.userserv.entity.User;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = {CardMapper.class})
 public interface UserMapper {
     User toEntity(UserRequest userRequest);
     UserResponse toResponse(User user);
+
+    @Mapping(target = "cards", ignore = true)
+    UserResponse toResponse(UserCardRow row);
+
+    default List<UserResponse> toResponses(List<UserCardRow> rows) {
+        Map<UUID, UserResponse> users = new LinkedHashMap<>();
+
+        for (UserCardRow row : rows) {
+            UserResponse user = users.computeIfAbsent(row.id(), id -> toResponse(row));
+            if (row.cardId() != null) {
+                user.getCards().add(new CardResponse(row.cardId(), row.cardNumber(), row.cardHolder(),
+                        row.cardExpirationDate(), row.id()));
+            }
+        }
+
+        return new ArrayList<>(users.values());
+    }
 }
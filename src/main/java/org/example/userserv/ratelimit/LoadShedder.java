@@ -0,0 +1,53 @@
+package org.example.userserv.ratelimit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+public class LoadShedder {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final DataSource dataSource;
+    private final int maxInFlight;
+    private final int maxPendingConnections;
+    private volatile HikariPoolMXBean pool;
+
+    public LoadShedder(DataSource dataSource, int maxInFlight, int maxPendingConnections) {
+        this.dataSource = dataSource;
+        this.maxInFlight = maxInFlight;
+        this.maxPendingConnections = maxPendingConnections;
+    }
+
+    public boolean tryEnter() {
+        if (inFlight.incrementAndGet() > maxInFlight || isPoolSaturated()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+
+        return true;
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    private boolean isPoolSaturated() {
+        HikariPoolMXBean poolBean = pool();
+
+        return poolBean != null && poolBean.getThreadsAwaitingConnection() > maxPendingConnections;
+    }
+
+    private HikariPoolMXBean pool() {
+        if (pool == null && dataSource != null) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class))
+                    pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            } catch (SQLException e) {
+                return null;
+            }
+        }
+
+        return pool;
+    }
+}
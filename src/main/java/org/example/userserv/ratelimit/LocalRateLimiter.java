@@ -0,0 +1,40 @@
+package org.example.userserv.ratelimit;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+public class LocalRateLimiter implements RateLimiter {
+    private final ConcurrentMap<UUID, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final double capacity;
+    private final double tokensPerSecond;
+    private final LongSupplier clock;
+
+    public LocalRateLimiter(double capacity, double tokensPerSecond) {
+        this(capacity, tokensPerSecond, System::nanoTime);
+    }
+
+    LocalRateLimiter(double capacity, double tokensPerSecond, LongSupplier clock) {
+        this.capacity = capacity;
+        this.tokensPerSecond = tokensPerSecond;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean tryAcquire(UUID userId) {
+        long now = clock.getAsLong();
+
+        return buckets.computeIfAbsent(userId, id -> new TokenBucket(capacity, tokensPerSecond, now))
+                .tryConsume(now);
+    }
+
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.userserv.ratelimit;
+
+import java.util.UUID;
+
+public interface RateLimiter {
+    boolean tryAcquire(UUID userId);
+}
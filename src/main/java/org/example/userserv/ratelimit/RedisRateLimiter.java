@@ -0,0 +1,64 @@
+package org.example.userserv.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.userserv.cache.CacheCircuitBreaker;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+    private static final String KEY_PREFIX = "rate-limit:";
+    private static final RedisScript<Long> TOKEN_BUCKET = RedisScript.of("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            local allowed = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate * 1000))
+            return allowed
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter fallback;
+    private final CacheCircuitBreaker circuitBreaker;
+    private final String capacity;
+    private final String tokensPerSecond;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimiter fallback,
+                            CacheCircuitBreaker circuitBreaker, double capacity, double tokensPerSecond) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.circuitBreaker = circuitBreaker;
+        this.capacity = Double.toString(capacity);
+        this.tokensPerSecond = Double.toString(tokensPerSecond);
+    }
+
+    @Override
+    public boolean tryAcquire(UUID userId) {
+        if (circuitBreaker.isOpen()) return fallback.tryAcquire(userId);
+
+        long start = System.nanoTime();
+        try {
+            Long allowed = redisTemplate.execute(TOKEN_BUCKET, List.of(KEY_PREFIX + userId),
+                    capacity, tokensPerSecond);
+            circuitBreaker.recordSuccess(System.nanoTime() - start);
+            return allowed != null && allowed == 1L;
+        } catch (DataAccessException e) {
+            circuitBreaker.recordFailure();
+            log.debug("Redis rate limiter unavailable, using local bucket: {}", e.getMessage());
+            return fallback.tryAcquire(userId);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.userserv.ratelimit;
+
+class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double capacity, double tokensPerSecond, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    synchronized boolean tryConsume(long now) {
+        refill(now);
+        if (tokens < 1) return false;
+
+        tokens -= 1;
+        return true;
+    }
+
+    synchronized boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        if (now <= lastRefill) return;
+
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
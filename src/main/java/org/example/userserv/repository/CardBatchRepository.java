@@ -0,0 +1,85 @@
+package org.example.userserv.repository;
+
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.util.CardNumberHasher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+@Repository
+public class CardBatchRepository {
+    private static final String INSERT =
+            "insert into cards (user_id, number, number_hash, holder, expiration_date) values (?, ?, ?, ?, ?)";
+    private static final String UPDATE =
+            "update cards set number = ?, number_hash = ?, holder = ?, expiration_date = ? where id = ?";
+    private static final String DELETE = "delete from cards where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CardNumberHasher cardNumberHasher;
+    private final TransactionTemplate savepointTemplate;
+
+    public CardBatchRepository(JdbcTemplate jdbcTemplate, CardNumberHasher cardNumberHasher,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cardNumberHasher = cardNumberHasher;
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    public void inSavepoint(Runnable action) {
+        savepointTemplate.executeWithoutResult(status -> action.run());
+    }
+
+    public List<Long> insertAll(List<CardResponse> cards) {
+        if (cards.isEmpty()) return List.of();
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CardResponse card = cards.get(i);
+                        ps.setObject(1, card.getUserId());
+                        ps.setString(2, card.getNumber());
+                        ps.setBytes(3, cardNumberHasher.hash(card.getNumber()));
+                        ps.setString(4, card.getHolder());
+                        ps.setObject(5, card.getExpirationDate());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return cards.size();
+                    }
+                }, keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+
+    public void updateAll(List<CardResponse> cards) {
+        if (cards.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPDATE, cards, cards.size(), (ps, card) -> {
+            ps.setString(1, card.getNumber());
+            ps.setBytes(2, cardNumberHasher.hash(card.getNumber()));
+            ps.setString(3, card.getHolder());
+            ps.setObject(4, card.getExpirationDate());
+            ps.setLong(5, card.getId());
+        });
+    }
+
+    public void deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(DELETE, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.userserv.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.util.CardNumberHasher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CardNumberHashBackfillRepository {
+    private static final String SELECT_UNHASHED =
+            "select id, number from cards where number_hash is null order by id limit ?";
+    private static final String UPDATE_HASH = "update cards set number_hash = ? where id = ?";
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CardNumberHasher cardNumberHasher;
+
+    public int backfillNumberHashes() {
+        int total = 0;
+        List<Map<String, Object>> rows;
+
+        do {
+            rows = jdbcTemplate.queryForList(SELECT_UNHASHED, BATCH_SIZE);
+            jdbcTemplate.batchUpdate(UPDATE_HASH, rows, rows.size(), (ps, row) -> {
+                ps.setBytes(1, cardNumberHasher.hash((String) row.get("number")));
+                ps.setLong(2, ((Number) row.get("id")).longValue());
+            });
+            total += rows.size();
+        } while (rows.size() == BATCH_SIZE);
+
+        return total;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.userserv.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Repository
+public class CardPartitionMigrationRepository {
+    private static final String SELECT_STATE =
+            "select last_copied_id from cards_partition_migration where id = 1 and not completed";
+    private static final String SELECT_BATCH_END =
+            "select max(id) from (select id from cards where id > ? order by id limit ?) batch";
+    private static final String COPY_BATCH =
+            "insert into cards_partitioned (id, user_id, number, number_hash, holder, expiration_date) " +
+            "select id, user_id, number, number_hash, holder, expiration_date from cards " +
+            "where id > ? and id <= ? for share " +
+            "on conflict (id, user_id) do nothing";
+    private static final String SAVE_PROGRESS =
+            "update cards_partition_migration set last_copied_id = ? where id = 1";
+    private static final String COUNT_MISSING =
+            "select count(*) from cards c where not exists " +
+            "(select 1 from cards_partitioned p where p.id = c.id and p.user_id = c.user_id)";
+    private static final String MARK_COMPLETED =
+            "update cards_partition_migration set completed = true where id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CardPartitionMigrationRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Long findLastCopiedId() {
+        return jdbcTemplate.query(SELECT_STATE, rs -> rs.next() ? rs.getLong(1) : null);
+    }
+
+    public Long copyBatch(long after, int batchSize) {
+        return transactionTemplate.execute(status -> {
+            Long end = jdbcTemplate.queryForObject(SELECT_BATCH_END, Long.class, after, batchSize);
+            if (end == null) return null;
+
+            jdbcTemplate.update(COPY_BATCH, after, end);
+            jdbcTemplate.update(SAVE_PROGRESS, end);
+
+            return end;
+        });
+    }
+
+    public boolean completeIfConsistent() {
+        Long missing = jdbcTemplate.queryForObject(COUNT_MISSING, Long.class);
+        if (missing == null || missing > 0) return false;
+
+        jdbcTemplate.update(MARK_COMPLETED);
+        return true;
+    }
+}
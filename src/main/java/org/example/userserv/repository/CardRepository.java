@@ -1,20 +1,38 @@
 package org.example.userserv.repository;
 
+import org.example.userserv.dto.CardResponse;
 import org.example.userserv.entity.Card;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CardRepository extends JpaRepository<Card, Long> {
+    String SELECT_CARD_RESPONSE = "select new org.example.userserv.dto.CardResponse(" +
+            "card.id, card.number, card.holder, card.expirationDate, card.user.id) from Card card ";
 
-    @Query("select card from Card card where card.id in :ids")
-    List<Card> findByIds(@Param("ids") List<Long> ids);
+    @Query(SELECT_CARD_RESPONSE + "where card.id = :id")
+    Optional<CardResponse> findResponseById(@Param("id") Long id);
 
-    boolean existsByNumber(String number);
+    @Query(SELECT_CARD_RESPONSE + "where card.id in :ids")
+    List<CardResponse> findResponsesByIds(@Param("ids") List<Long> ids);
+
+    @Query(SELECT_CARD_RESPONSE + "where card.user.id = :userId and card.id > :after order by card.id")
+    List<CardResponse> findPageByUserId(@Param("userId") UUID userId, @Param("after") long after, Limit limit);
+
+    boolean existsByNumberHash(byte[] numberHash);
+
+    @Query("select card.numberHash from Card card where card.numberHash in :hashes")
+    List<byte[]> findExistingNumberHashes(@Param("hashes") Collection<byte[]> hashes);
 
     List<Card> findByUserId(UUID id);
+
+    @Query("select c.id from Card c where c.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,53 @@
+package org.example.userserv.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Repository
+public class KeyStreamRepository {
+    private static final String SELECT_CARD_NUMBER_HASHES =
+            "select number_hash from cards where number_hash is not null";
+    private static final String SELECT_EMAILS = "select email from users";
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public KeyStreamRepository(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public long forEachCardNumberHash(Consumer<byte[]> consumer) {
+        return stream(SELECT_CARD_NUMBER_HASHES, rs -> consumer.accept(rs.getBytes(1)));
+    }
+
+    public long forEachEmail(Consumer<String> consumer) {
+        return stream(SELECT_EMAILS, rs -> consumer.accept(rs.getString(1)));
+    }
+
+    private long stream(String sql, RowConsumer rowConsumer) {
+        AtomicLong count = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query(sql, rs -> {
+                    rowConsumer.accept(rs);
+                    count.incrementAndGet();
+                }));
+
+        return count.get();
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(ResultSet rs) throws SQLException;
+    }
+}
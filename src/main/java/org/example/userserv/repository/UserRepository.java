@@ -1,7 +1,10 @@
 package org.example.userserv.repository;
 
+import org.example.userserv.dto.UserCardRow;
+import org.example.userserv.dto.UserProfileResponse;
 import org.example.userserv.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,15 +14,41 @@ import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
-    @Query(value = "select * from users where email = :email", nativeQuery = true)
-    Optional<User> findByEmail(@Param("email") String email);
+    String SELECT_USER_CARD_ROWS = "select new org.example.userserv.dto.UserCardRow(" +
+            "u.id, u.name, u.surname, u.birthDate, u.email, c.id, c.number, c.holder, c.expirationDate) " +
+            "from User u left join u.cards c ";
+    String SELECT_USER_PROFILE = "select new org.example.userserv.dto.UserProfileResponse(" +
+            "u.id, u.name, u.surname, u.birthDate, u.email) from User u ";
 
-    @Query("select u from User u where u.id in :ids")
-    List<User> findByIds(@Param("ids") List<UUID> ids);
+    @Query(SELECT_USER_CARD_ROWS + "where u.id = :id order by c.id")
+    List<UserCardRow> findRowsById(@Param("id") UUID id);
 
-    boolean existsByEmail(String email);
+    @Query(SELECT_USER_CARD_ROWS + "where u.id in :ids order by u.id, c.id")
+    List<UserCardRow> findRowsByIds(@Param("ids") List<UUID> ids);
+
+    @Query(SELECT_USER_CARD_ROWS + "where lower(u.email) = :email order by c.id")
+    List<UserCardRow> findRowsByEmail(@Param("email") String email);
+
+    @Query(SELECT_USER_PROFILE + "where u.id = :id")
+    Optional<UserProfileResponse> findProfileById(@Param("id") UUID id);
+
+    @Query(SELECT_USER_PROFILE + "where u.id in :ids")
+    List<UserProfileResponse> findProfilesByIds(@Param("ids") List<UUID> ids);
+
+    @Query(SELECT_USER_PROFILE + "where lower(u.email) = :email")
+    Optional<UserProfileResponse> findProfileByEmail(@Param("email") String email);
+
+    @Query("select u.email from User u where u.id = :id")
+    Optional<String> findEmailById(@Param("id") UUID id);
+
+    @Query(value = "select exists(select 1 from users where lower(email) = :email)", nativeQuery = true)
+    boolean existsByEmail(@Param("email") String email);
 
     boolean existsById(UUID id);
 
     void deleteById(UUID id);
+
+    @Modifying
+    @Query("delete from User u where u.id = :id")
+    int deleteUserById(@Param("id") UUID id);
 }
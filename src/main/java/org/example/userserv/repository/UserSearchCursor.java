@@ -0,0 +1,27 @@
+package org.example.userserv.repository;
+
+import org.example.userserv.exception.InvalidRequestParameterException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+public record UserSearchCursor(String surname, String name, UUID id) {
+    private static final String SEPARATOR = "\n";
+
+    public static UserSearchCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, -1);
+            if (parts.length != 3) throw new InvalidRequestParameterException("Invalid cursor");
+
+            return new UserSearchCursor(parts[0], parts[1], UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestParameterException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = surname + SEPARATOR + name + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.userserv.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.dto.UserResponse;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+    private static final String SELECT_USERS = "select id, name, surname, birth_date, email, " +
+            "lower(surname) as surname_key, lower(name) as name_key from users ";
+    private static final String SURNAME_KEY = "lower(surname) collate \"C\"";
+    private static final String NAME_KEY = "lower(name) collate \"C\"";
+
+    private static final RowMapper<UserResponse> USER_ROW_MAPPER = (rs, rowNum) -> {
+        UserResponse user = new UserResponse();
+        user.setId(rs.getObject("id", UUID.class));
+        user.setName(rs.getString("name"));
+        user.setSurname(rs.getString("surname"));
+        user.setBirthDate(rs.getObject("birth_date", LocalDate.class));
+        user.setEmail(rs.getString("email"));
+        return user;
+    };
+
+    private static final RowMapper<UserSearchRow> SEARCH_ROW_MAPPER = (rs, rowNum) -> {
+        UserResponse user = USER_ROW_MAPPER.mapRow(rs, rowNum);
+        return new UserSearchRow(user,
+                new UserSearchCursor(rs.getString("surname_key"), rs.getString("name_key"), user.getId()));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<UserSearchRow> findBySurnamePrefix(String surname, String name, UserSearchCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_USERS)
+                .append("where ").append(SURNAME_KEY).append(" like :surname escape '\\' ");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("surname", likePrefix(surname))
+                .addValue("limit", limit);
+
+        if (name != null) {
+            sql.append("and ").append(NAME_KEY).append(" like :name escape '\\' ");
+            params.addValue("name", likePrefix(name));
+        }
+        if (after != null) {
+            sql.append("and (").append(SURNAME_KEY).append(", ").append(NAME_KEY)
+                    .append(", id) > (:afterSurname, :afterName, :afterId) ");
+            params.addValue("afterSurname", after.surname())
+                    .addValue("afterName", after.name())
+                    .addValue("afterId", after.id());
+        }
+        sql.append("order by ").append(SURNAME_KEY).append(", ").append(NAME_KEY).append(", id limit :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, SEARCH_ROW_MAPPER);
+    }
+
+    public List<UserResponse> findBySimilarity(String surname, String name, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_USERS).append("where lower(surname) % :surname ");
+        String score = "similarity(lower(surname), :surname)";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("surname", surname.toLowerCase(Locale.ROOT))
+                .addValue("limit", limit);
+
+        if (name != null) {
+            sql.append("and lower(name) % :name ");
+            score += " + similarity(lower(name), :name)";
+            params.addValue("name", name.toLowerCase(Locale.ROOT));
+        }
+        sql.append("order by ").append(score).append(" desc, id limit :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, USER_ROW_MAPPER);
+    }
+
+    private String likePrefix(String value) {
+        return value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
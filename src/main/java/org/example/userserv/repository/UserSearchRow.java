@@ -0,0 +1,6 @@
+package org.example.userserv.repository;
+
+import org.example.userserv.dto.UserResponse;
+
+public record UserSearchRow(UserResponse user, UserSearchCursor cursor) {
+}
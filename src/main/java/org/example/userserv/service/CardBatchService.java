@@ -0,0 +1,364 @@
+package org.example.userserv.service;
+
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.dto.CardBatchRequest;
+import org.example.userserv.dto.CardOperation;
+import org.example.userserv.dto.CardOperationResult;
+import org.example.userserv.dto.CardRequest;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.exception.BatchTooLargeException;
+import org.example.userserv.exception.ValueAlreadyExistsException;
+import org.example.userserv.repository.CardBatchRepository;
+import org.example.userserv.repository.CardRepository;
+import org.example.userserv.repository.UserRepository;
+import org.example.userserv.sharding.ShardDirectory;
+import org.example.userserv.util.CardNumberFilter;
+import org.example.userserv.util.CardNumberHasher;
+import org.example.userserv.util.SecurityUtil;
+import org.example.userserv.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class CardBatchService {
+    private static final String CACHE_USERS = "users";
+    private static final String CACHE_CARDS = "cards";
+    private static final HexFormat HEX = HexFormat.of();
+    private final CardRepository cardRepository;
+    private final CardBatchRepository cardBatchRepository;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final SecurityUtil securityUtil;
+    private final CardNumberHasher cardNumberHasher;
+    private final CardNumberFilter cardNumberFilter;
+    private final Validator validator;
+    private final CardPageService cardPageService;
+    private final ShardDirectory shardDirectory;
+    private final int maxOperations;
+
+    public CardBatchService(CardRepository cardRepository, CardBatchRepository cardBatchRepository,
+                            UserRepository userRepository, CacheManager cacheManager, SecurityUtil securityUtil,
+                            CardNumberHasher cardNumberHasher, CardNumberFilter cardNumberFilter, Validator validator,
+                            CardPageService cardPageService, ShardDirectory shardDirectory,
+                            @Value("${cards.batch.max-operations:500}") int maxOperations) {
+        this.cardRepository = cardRepository;
+        this.cardBatchRepository = cardBatchRepository;
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+        this.securityUtil = securityUtil;
+        this.cardNumberHasher = cardNumberHasher;
+        this.cardNumberFilter = cardNumberFilter;
+        this.validator = validator;
+        this.cardPageService = cardPageService;
+        this.shardDirectory = shardDirectory;
+        this.maxOperations = maxOperations;
+    }
+
+    @Transactional
+    public List<CardOperationResult> execute(CardBatchRequest request) {
+        List<CardOperation> operations = request.getOperations();
+        if (operations.size() > maxOperations) throw new BatchTooLargeException(operations.size(), maxOperations);
+
+        UUID userId = securityUtil.getCurrentUserId();
+        BatchContext context = new BatchContext(userId, userRepository.findEmailById(userId),
+                loadExistingCards(operations), loadTakenNumberHashes(operations));
+
+        CardOperationResult[] results = new CardOperationResult[operations.size()];
+        List<PendingOperation> creates = new ArrayList<>();
+        List<PendingOperation> updates = new ArrayList<>();
+        List<PendingOperation> deletes = new ArrayList<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            CardOperation operation = operations.get(i);
+            String error = context.check(operation);
+            if (error != null) {
+                results[i] = failed(i, error);
+                continue;
+            }
+
+            switch (operation.getType()) {
+                case CREATE -> creates.add(toCreate(i, operation.getCard(), userId));
+                case UPDATE -> updates.add(toUpdate(i, context.existing.get(operation.getId()), operation.getCard()));
+                case DELETE -> deletes.add(toDelete(i, context.existing.get(operation.getId())));
+            }
+        }
+
+        List<PendingOperation> pending = new ArrayList<>(deletes);
+        pending.addAll(updates);
+        pending.addAll(creates);
+
+        if (request.isAtomic()) {
+            if (pending.size() < operations.size()) return skipAccepted(results);
+            applyBatch(userId, pending);
+        } else {
+            try {
+                cardBatchRepository.inSavepoint(() -> applyBatch(userId, pending));
+            } catch (ValueAlreadyExistsException e) {
+                applyEach(userId, pending, results);
+            }
+        }
+
+        List<PendingOperation> applied = pending.stream().filter(p -> results[p.index()] == null).toList();
+        for (PendingOperation operation : applied) {
+            if (operation.claimed() != null) cardNumberFilter.put(operation.claimed());
+            results[operation.index()] = new CardOperationResult(operation.index(),
+                    CardOperationResult.Status.APPLIED, operation.card(), null);
+        }
+
+        evictCaches(context, applied);
+
+        return List.of(results);
+    }
+
+    private void applyBatch(UUID userId, List<PendingOperation> pending) {
+        List<byte[]> claimed = pending.stream().map(PendingOperation::claimed).filter(Objects::nonNull).toList();
+        reserveNumbers(userId, claimed);
+
+        try {
+            cardBatchRepository.deleteAll(pending.stream()
+                    .filter(p -> p.type() == CardOperation.Type.DELETE).map(PendingOperation::id).toList());
+            cardBatchRepository.updateAll(pending.stream()
+                    .filter(p -> p.type() == CardOperation.Type.UPDATE).map(PendingOperation::card).toList());
+
+            List<CardResponse> creates = pending.stream()
+                    .filter(p -> p.type() == CardOperation.Type.CREATE).map(PendingOperation::card).toList();
+            List<Long> createdIds = cardBatchRepository.insertAll(creates);
+            for (int j = 0; j < creates.size(); j++) creates.get(j).setId(createdIds.get(j));
+        } catch (RuntimeException e) {
+            claimed.forEach(hash -> shardDirectory.releaseCardNumber(hash, userId));
+            if (e instanceof DataIntegrityViolationException) throw new ValueAlreadyExistsException();
+            throw e;
+        }
+
+        pending.forEach(operation -> releaseOnCompletion(userId, operation));
+    }
+
+    private void applyEach(UUID userId, List<PendingOperation> pending, CardOperationResult[] results) {
+        for (PendingOperation operation : pending) {
+            if (operation.claimed() != null && !shardDirectory.reserveCardNumber(operation.claimed(), userId)) {
+                results[operation.index()] = failed(operation.index(), conflict(operation));
+                continue;
+            }
+
+            try {
+                cardBatchRepository.inSavepoint(() -> apply(operation));
+            } catch (DataIntegrityViolationException e) {
+                if (operation.claimed() != null) shardDirectory.releaseCardNumber(operation.claimed(), userId);
+                results[operation.index()] = failed(operation.index(), conflict(operation));
+                continue;
+            }
+
+            releaseOnCompletion(userId, operation);
+        }
+    }
+
+    private void apply(PendingOperation operation) {
+        switch (operation.type()) {
+            case CREATE -> operation.card().setId(cardBatchRepository.insertAll(List.of(operation.card())).get(0));
+            case UPDATE -> cardBatchRepository.updateAll(List.of(operation.card()));
+            case DELETE -> cardBatchRepository.deleteAll(List.of(operation.id()));
+        }
+    }
+
+    private void releaseOnCompletion(UUID userId, PendingOperation operation) {
+        if (operation.released() != null)
+            TransactionHooks.afterCommit(() -> shardDirectory.releaseCardNumber(operation.released(), userId));
+        if (operation.claimed() != null)
+            TransactionHooks.afterRollback(() -> shardDirectory.releaseCardNumber(operation.claimed(), userId));
+    }
+
+    private PendingOperation toCreate(int index, CardRequest request, UUID userId) {
+        CardResponse card = new CardResponse(null, request.getNumber(), request.getHolder(),
+                request.getExpirationDate(), userId);
+
+        return new PendingOperation(index, CardOperation.Type.CREATE, null, card,
+                cardNumberHasher.hash(card.getNumber()), null);
+    }
+
+    private PendingOperation toUpdate(int index, CardResponse existing, CardRequest request) {
+        CardResponse card = merge(existing, request);
+        boolean numberChanged = !card.getNumber().equals(existing.getNumber());
+
+        return new PendingOperation(index, CardOperation.Type.UPDATE, card.getId(), card,
+                numberChanged ? cardNumberHasher.hash(card.getNumber()) : null,
+                numberChanged ? cardNumberHasher.hash(existing.getNumber()) : null);
+    }
+
+    private PendingOperation toDelete(int index, CardResponse existing) {
+        return new PendingOperation(index, CardOperation.Type.DELETE, existing.getId(), null,
+                null, cardNumberHasher.hash(existing.getNumber()));
+    }
+
+    private String conflict(PendingOperation operation) {
+        if (operation.card() == null) return "Card was modified concurrently";
+
+        return "Field 'number' with value '" + operation.card().getNumber() + "' already exists";
+    }
+
+    private void reserveNumbers(UUID userId, List<byte[]> claimed) {
+        for (int i = 0; i < claimed.size(); i++) {
+            if (!shardDirectory.reserveCardNumber(claimed.get(i), userId)) {
+                claimed.subList(0, i).forEach(hash -> shardDirectory.releaseCardNumber(hash, userId));
+                throw new ValueAlreadyExistsException();
+            }
+        }
+    }
+
+    private Map<Long, CardResponse> loadExistingCards(List<CardOperation> operations) {
+        List<Long> ids = operations.stream()
+                .filter(o -> o.getType() != CardOperation.Type.CREATE && o.getId() != null)
+                .map(CardOperation::getId)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) return Map.of();
+
+        return cardRepository.findResponsesByIds(ids).stream()
+                .collect(Collectors.toMap(CardResponse::getId, Function.identity()));
+    }
+
+    private Set<String> loadTakenNumberHashes(List<CardOperation> operations) {
+        List<byte[]> candidates = operations.stream()
+                .filter(o -> o.getType() != CardOperation.Type.DELETE && o.getCard() != null)
+                .map(o -> o.getCard().getNumber())
+                .filter(n -> n != null && !n.isBlank())
+                .distinct()
+                .map(cardNumberHasher::hash)
+                .filter(cardNumberFilter::mightContain)
+                .toList();
+        if (candidates.isEmpty()) return new HashSet<>();
+
+        return cardRepository.findExistingNumberHashes(candidates).stream()
+                .map(HEX::formatHex)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private CardResponse merge(CardResponse card, CardRequest request) {
+        return new CardResponse(card.getId(),
+                request.getNumber() != null ? request.getNumber() : card.getNumber(),
+                request.getHolder() != null ? request.getHolder() : card.getHolder(),
+                request.getExpirationDate() != null ? request.getExpirationDate() : card.getExpirationDate(),
+                card.getUserId());
+    }
+
+    private CardOperationResult failed(int index, String error) {
+        return new CardOperationResult(index, CardOperationResult.Status.FAILED, null, error);
+    }
+
+    private List<CardOperationResult> skipAccepted(CardOperationResult[] results) {
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = new CardOperationResult(i, CardOperationResult.Status.SKIPPED, null,
+                        "Batch aborted in atomic mode");
+            }
+        }
+
+        return List.of(results);
+    }
+
+    private void evictCaches(BatchContext context, List<PendingOperation> applied) {
+        Optional.ofNullable(cacheManager.getCache(CACHE_USERS)).ifPresent(c -> {
+            c.evict(context.userId);
+            context.email.ifPresent(c::evict);
+        });
+
+        Cache cardsCache = cacheManager.getCache(CACHE_CARDS);
+        if (cardsCache != null) {
+            applied.stream().map(PendingOperation::id).filter(Objects::nonNull).forEach(cardsCache::evict);
+        }
+
+        cardPageService.invalidate(context.userId);
+    }
+
+    private record PendingOperation(int index, CardOperation.Type type, Long id, CardResponse card,
+                                    byte[] claimed, byte[] released) {
+    }
+
+    @RequiredArgsConstructor
+    private final class BatchContext {
+        private final UUID userId;
+        private final Optional<String> email;
+        private final Map<Long, CardResponse> existing;
+        private final Set<String> takenNumberHashes;
+        private final Set<Long> touchedIds = new HashSet<>();
+
+        private String check(CardOperation operation) {
+            if (operation.getType() == null) return "Operation type can't be null";
+
+            String error = switch (operation.getType()) {
+                case CREATE -> checkCreate(operation.getCard());
+                case UPDATE -> checkUpdate(operation.getId(), operation.getCard());
+                case DELETE -> checkCardAccess(operation.getId());
+            };
+            if (error == null && operation.getType() != CardOperation.Type.CREATE) touchedIds.add(operation.getId());
+
+            return error;
+        }
+
+        private String checkCreate(CardRequest card) {
+            if (card == null) return "Card can't be null";
+
+            String violations = validate(card, CardRequest.CreateValidation.class);
+            if (violations != null) return violations;
+            if (!userId.equals(card.getUserId())) return "Access denied";
+            if (email.isEmpty()) return "User not found";
+
+            return claimNumber(card.getNumber(), null);
+        }
+
+        private String checkUpdate(Long id, CardRequest card) {
+            if (card == null) return "Card can't be null";
+
+            String violations = validate(card, CardRequest.UpdateValidation.class);
+            if (violations != null) return violations;
+
+            String accessError = checkCardAccess(id);
+            if (accessError != null) return accessError;
+
+            return card.getNumber() == null ? null : claimNumber(card.getNumber(), existing.get(id).getNumber());
+        }
+
+        private String checkCardAccess(Long id) {
+            if (id == null) return "Card id can't be null";
+
+            CardResponse card = existing.get(id);
+            if (card == null) return "Card not found";
+            if (!userId.equals(card.getUserId())) return "Access denied";
+            if (touchedIds.contains(id)) return "Card is already modified in this batch";
+
+            return null;
+        }
+
+        private String claimNumber(String number, String currentNumber) {
+            if (number.equals(currentNumber)) return null;
+            if (!takenNumberHashes.add(HEX.formatHex(cardNumberHasher.hash(number))))
+                return "Field 'number' with value '" + number + "' already exists";
+
+            return null;
+        }
+
+        private String validate(CardRequest card, Class<?> group) {
+            Set<ConstraintViolation<CardRequest>> violations = validator.validate(card, group);
+            if (violations.isEmpty()) return null;
+
+            return violations.stream().map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining("; "));
+        }
+    }
+}
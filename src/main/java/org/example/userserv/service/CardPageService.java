@@ -0,0 +1,81 @@
+package org.example.userserv.service;
+
+import org.example.userserv.dto.CardPageResponse;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.repository.CardRepository;
+import org.example.userserv.util.SecurityUtil;
+import org.example.userserv.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class CardPageService {
+    private static final String CACHE_CARD_PAGES = "card-pages";
+    private static final String CACHE_CARD_PAGE_GENERATIONS = "card-page-generations";
+    private final CardRepository cardRepository;
+    private final CacheManager cacheManager;
+    private final SecurityUtil securityUtil;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public CardPageService(CardRepository cardRepository, CacheManager cacheManager, SecurityUtil securityUtil,
+                           @Value("${cards.page.default-limit:20}") int defaultLimit,
+                           @Value("${cards.page.max-limit:100}") int maxLimit) {
+        this.cardRepository = cardRepository;
+        this.cacheManager = cacheManager;
+        this.securityUtil = securityUtil;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public CardPageResponse findByUserId(UUID userId, Long after, Integer limit) {
+        if (!securityUtil.getCurrentUserId().equals(userId))
+            throw new AccessDeniedException("Access denied");
+
+        long cursor = after == null ? 0L : after;
+        int size = limit == null ? defaultLimit : Math.clamp(limit, 1, maxLimit);
+
+        Cache pages = cacheManager.getCache(CACHE_CARD_PAGES);
+        Cache generations = cacheManager.getCache(CACHE_CARD_PAGE_GENERATIONS);
+        if (pages == null || generations == null) return loadPage(userId, cursor, size);
+
+        String pageKey = userId + ":" + generation(generations, userId) + ":" + cursor + ":" + size;
+        CardPageResponse cached = pages.get(pageKey, CardPageResponse.class);
+        if (cached != null) return cached;
+
+        CardPageResponse page = loadPage(userId, cursor, size);
+        pages.put(pageKey, page);
+
+        return page;
+    }
+
+    public void invalidate(UUID userId) {
+        TransactionHooks.afterCommit(() -> Optional.ofNullable(cacheManager.getCache(CACHE_CARD_PAGE_GENERATIONS))
+                .ifPresent(c -> c.put(userId, UUID.randomUUID().toString())));
+    }
+
+    private String generation(Cache generations, UUID userId) {
+        String generation = generations.get(userId, String.class);
+        if (generation != null) return generation;
+
+        generation = UUID.randomUUID().toString();
+        Cache.ValueWrapper existing = generations.putIfAbsent(userId, generation);
+
+        return existing != null && existing.get() instanceof String current ? current : generation;
+    }
+
+    private CardPageResponse loadPage(UUID userId, long after, int size) {
+        List<CardResponse> cards = cardRepository.findPageByUserId(userId, after, Limit.of(size + 1));
+        boolean hasMore = cards.size() > size;
+        List<CardResponse> page = hasMore ? cards.subList(0, size) : cards;
+
+        return new CardPageResponse(List.copyOf(page), hasMore ? page.get(size - 1).getId() : null);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.userserv.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.userserv.repository.CardPartitionMigrationRepository;
+import org.example.userserv.util.AdvisoryLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "cards.partition-migration.enabled", havingValue = "true")
+public class CardPartitionMigrationService {
+    private static final String LOCK_NAME = "cards-partition-migration";
+    private final CardPartitionMigrationRepository migrationRepository;
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final Duration pause;
+
+    public CardPartitionMigrationService(CardPartitionMigrationRepository migrationRepository,
+                                         DataSource dataSource,
+                                         @Value("${cards.partition-migration.batch-size:5000}") int batchSize,
+                                         @Value("${cards.partition-migration.pause:50ms}") Duration pause) {
+        this.migrationRepository = migrationRepository;
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofVirtual().name("cards-partition-migration").start(this::migrate);
+    }
+
+    public void migrate() {
+        try (AdvisoryLock lock = AdvisoryLock.tryAcquire(dataSource, LOCK_NAME)) {
+            if (lock == null) {
+                log.info("Cards partition migration is already running on another node");
+                return;
+            }
+
+            copyAll();
+        }
+    }
+
+    private void copyAll() {
+        Long lastCopied = migrationRepository.findLastCopiedId();
+        if (lastCopied == null) {
+            log.info("Cards partition migration already completed");
+            return;
+        }
+
+        long copied = 0;
+        Long end;
+        while ((end = migrationRepository.copyBatch(lastCopied, batchSize)) != null) {
+            lastCopied = end;
+            copied++;
+            if (copied % 100 == 0) log.info("Cards partition migration copied up to id {}", lastCopied);
+            if (!sleep()) return;
+        }
+
+        if (migrationRepository.completeIfConsistent()) {
+            log.info("Cards partition migration completed; cutover runs with the next Liquibase update");
+        } else {
+            log.warn("Cards partition migration finished copying but rows are still missing; rerun it");
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
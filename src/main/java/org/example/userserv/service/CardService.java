@@ -12,17 +12,25 @@ import org.example.userserv.exception.ValueAlreadyExistsException;
 import org.example.userserv.mapper.CardMapper;
 import org.example.userserv.repository.CardRepository;
 import org.example.userserv.repository.UserRepository;
+import org.example.userserv.sharding.ShardDirectory;
+import org.example.userserv.sharding.ShardRouter;
+import org.example.userserv.util.CardNumberFilter;
+import org.example.userserv.util.CardNumberHasher;
 import org.example.userserv.util.SecurityUtil;
+import org.example.userserv.util.TransactionHooks;
 import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -32,35 +40,56 @@ public class CardService {
     private final CardRepository cardRepository;
     private final CardMapper cardMapper;
     private final UserRepository userRepository;
-    private final RedisCacheManager cacheManager;
+    private final CacheManager cacheManager;
     private final SecurityUtil securityUtil;
+    private final CardNumberHasher cardNumberHasher;
+    private final CardNumberFilter cardNumberFilter;
+    private final ChunkedLookupExecutor chunkedLookupExecutor;
+    private final RequestCoalescer requestCoalescer;
+    private final CardPageService cardPageService;
+    private final ShardRouter shardRouter;
+    private final ShardDirectory shardDirectory;
 
     @CacheEvict(value = CACHE_USERS, key = "#result.userId")
     public CardResponse create(CardRequest cardRequest) {
         if (!securityUtil.getCurrentUserId().equals(cardRequest.getUserId()))
             throw new AccessDeniedException("Access denied");
 
-        if (cardRepository.existsByNumber(cardRequest.getNumber()))
+        byte[] numberHash = cardNumberHasher.hash(cardRequest.getNumber());
+        if (isNumberTaken(numberHash))
             throw new ValueAlreadyExistsException("number", cardRequest.getNumber());
 
         User user = userRepository.findById(cardRequest.getUserId())
                 .orElseThrow(UserNotFoundException::new);
         Card card = cardMapper.toEntity(cardRequest);
         card.setUser(user);
+        card.setNumberHash(numberHash);
 
         Optional.ofNullable(cacheManager.getCache(CACHE_USERS))
                 .ifPresent(c -> c.evict(card.getUser().getEmail()));
 
-        return cardMapper.toResponse(cardRepository.save(card));
+        CardResponse response = cardMapper.toResponse(saveCard(card, null));
+        cardPageService.invalidate(user.getId());
+        return response;
     }
 
-    @Cacheable(value = CACHE_CARDS, key = "#id")
     public CardResponse findById(Long id) {
-        Card card = cardRepository.findById(id).orElseThrow(CardNotFoundException::new);
-        if (!card.getUser().getId().equals(securityUtil.getCurrentUserId()))
+        CardResponse card = requestCoalescer.load(CACHE_CARDS, id, () -> cachedCard(id));
+        if (!card.getUserId().equals(securityUtil.getCurrentUserId()))
             throw new AccessDeniedException("Access denied");
 
-        return cardMapper.toResponse(card);
+        return card;
+    }
+
+    private CardResponse cachedCard(Long id) {
+        Cache cache = cacheManager.getCache(CACHE_CARDS);
+        CardResponse cached = cache != null ? cache.get(id, CardResponse.class) : null;
+        if (cached != null) return cached;
+
+        CardResponse card = cardRepository.findResponseById(id).orElseThrow(CardNotFoundException::new);
+        if (cache != null) cache.put(id, card);
+
+        return card;
     }
 
     public List<CardResponse> findByIds(List<Long> ids) {
@@ -68,7 +97,17 @@ public class CardService {
             return Collections.emptyList();
         }
 
-        return cardRepository.findByIds(ids).stream().map(cardMapper::toResponse).toList();
+        return chunkedLookupExecutor.load(ids, this::loadCards, CardResponse::getId);
+    }
+
+    public Consumer<Consumer<List<CardResponse>>> streamByIds(List<Long> ids) {
+        List<Long> distinctIds = chunkedLookupExecutor.distinct(ids);
+
+        return onChunk -> chunkedLookupExecutor.stream(distinctIds, this::loadCards, onChunk);
+    }
+
+    private List<CardResponse> loadCards(List<Long> ids) {
+        return shardRouter.onAllShards(() -> cardRepository.findResponsesByIds(ids));
     }
 
     @CachePut(value = CACHE_CARDS, key = "#id")
@@ -79,12 +118,14 @@ public class CardService {
         if (!card.getUser().getId().equals(securityUtil.getCurrentUserId()))
             throw new AccessDeniedException("Access denied");
 
+        byte[] previousHash = card.getNumberHash();
         updateCardFields(card, cardRequest);
 
         Optional.ofNullable(cacheManager.getCache(CACHE_USERS))
                 .ifPresent(c -> c.evict(card.getUser().getEmail()));
+        cardPageService.invalidate(card.getUser().getId());
 
-        return cardMapper.toResponse(cardRepository.save(card));
+        return cardMapper.toResponse(saveCard(card, previousHash));
     }
 
     private void updateCardFields(Card card, CardRequest cardRequest) {
@@ -94,17 +135,47 @@ public class CardService {
         if (cardRequest.getExpirationDate() != null) {
             card.setExpirationDate(cardRequest.getExpirationDate());
         }
-        if (cardRequest.getNumber() != null && isCardNumberUnique(card, cardRequest.getNumber())) {
-            card.setNumber(cardRequest.getNumber());
+        if (cardRequest.getNumber() != null && !cardRequest.getNumber().equals(card.getNumber())) {
+            updateCardNumber(card, cardRequest.getNumber());
         }
     }
 
-    private boolean isCardNumberUnique(Card card, String number) {
-        if (cardRepository.existsByNumber(number) && !number.equals(card.getNumber())) {
+    private void updateCardNumber(Card card, String number) {
+        byte[] numberHash = cardNumberHasher.hash(number);
+        if (isNumberTaken(numberHash)) {
             throw new ValueAlreadyExistsException("number", number);
         }
 
-        return true;
+        card.setNumber(number);
+        card.setNumberHash(numberHash);
+    }
+
+    private boolean isNumberTaken(byte[] numberHash) {
+        return cardNumberFilter.mightContain(numberHash) && cardRepository.existsByNumberHash(numberHash);
+    }
+
+    private Card saveCard(Card card, byte[] previousHash) {
+        UUID userId = card.getUser().getId();
+        boolean numberChanged = !Arrays.equals(card.getNumberHash(), previousHash);
+        if (numberChanged && !shardDirectory.reserveCardNumber(card.getNumberHash(), userId))
+            throw new ValueAlreadyExistsException("number", card.getNumber());
+        if (numberChanged)
+            TransactionHooks.afterRollback(() -> shardDirectory.releaseCardNumber(card.getNumberHash(), userId));
+
+        Card saved;
+        try {
+            saved = cardRepository.saveAndFlush(card);
+        } catch (RuntimeException e) {
+            if (numberChanged) shardDirectory.releaseCardNumber(card.getNumberHash(), userId);
+            if (e instanceof DataIntegrityViolationException)
+                throw new ValueAlreadyExistsException("number", card.getNumber());
+            throw e;
+        }
+
+        if (numberChanged && previousHash != null)
+            TransactionHooks.afterCommit(() -> shardDirectory.releaseCardNumber(previousHash, userId));
+        cardNumberFilter.put(saved.getNumberHash());
+        return saved;
     }
 
     @CacheEvict(value = CACHE_CARDS, key = "#id")
@@ -119,7 +190,11 @@ public class CardService {
             cache.evict(card.getUser().getId());
             cache.evict(card.getUser().getEmail());
         }
+        cardPageService.invalidate(card.getUser().getId());
 
         cardRepository.deleteById(id);
+        byte[] numberHash = card.getNumberHash();
+        UUID userId = card.getUser().getId();
+        TransactionHooks.afterCommit(() -> shardDirectory.releaseCardNumber(numberHash, userId));
     }
 }
@@ -0,0 +1,109 @@
+package org.example.userserv.service;
+
+import org.example.userserv.exception.BatchTooLargeException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Component
+public class ChunkedLookupExecutor {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int chunkSize;
+    private final int requestConcurrency;
+    private final Semaphore globalPermits;
+    private final int maxIds;
+
+    public ChunkedLookupExecutor(@Value("${batch-lookup.chunk-size:500}") int chunkSize,
+                                 @Value("${batch-lookup.max-concurrency-per-request:4}") int requestConcurrency,
+                                 @Value("${batch-lookup.max-concurrency:8}") int globalConcurrency,
+                                 @Value("${batch-lookup.max-ids:5000}") int maxIds) {
+        this.chunkSize = chunkSize;
+        this.requestConcurrency = requestConcurrency;
+        this.globalPermits = new Semaphore(globalConcurrency, true);
+        this.maxIds = maxIds;
+    }
+
+    public <I> List<I> distinct(List<I> ids) {
+        if (ids == null) return List.of();
+        if (ids.size() > maxIds) throw new BatchTooLargeException(ids.size(), maxIds);
+
+        return ids.stream().distinct().toList();
+    }
+
+    public <I, R> List<R> load(List<I> ids, Function<List<I>, List<R>> loader, Function<R, I> idOf) {
+        List<I> distinctIds = distinct(ids);
+        if (distinctIds.size() <= chunkSize) {
+            Map<I, R> byId = new HashMap<>();
+            loader.apply(distinctIds).forEach(r -> byId.put(idOf.apply(r), r));
+            return inRequestOrder(distinctIds, byId);
+        }
+
+        Map<I, R> byId = new ConcurrentHashMap<>();
+        stream(distinctIds, loader, chunk -> chunk.forEach(r -> byId.put(idOf.apply(r), r)));
+        return inRequestOrder(distinctIds, byId);
+    }
+
+    public <I, R> void stream(List<I> ids, Function<List<I>, List<R>> loader, Consumer<List<R>> onChunk) {
+        Semaphore requestPermits = new Semaphore(requestConcurrency);
+        Object sinkLock = new Object();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<I> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            acquire(requestPermits);
+            if (futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                requestPermits.release();
+                break;
+            }
+
+            futures.add(CompletableFuture.supplyAsync(() -> loadChunk(chunk, loader), executor)
+                    .thenAccept(result -> {
+                        synchronized (sinkLock) {
+                            onChunk.accept(result);
+                        }
+                    })
+                    .whenComplete((result, error) -> requestPermits.release()));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private <I, R> List<R> loadChunk(List<I> chunk, Function<List<I>, List<R>> loader) {
+        acquire(globalPermits);
+        try {
+            return loader.apply(chunk);
+        } finally {
+            globalPermits.release();
+        }
+    }
+
+    private <I, R> List<R> inRequestOrder(List<I> ids, Map<I, R> byId) {
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private void acquire(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a lookup slot", e);
+        }
+    }
+}
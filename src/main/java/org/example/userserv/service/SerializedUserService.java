@@ -0,0 +1,74 @@
+package org.example.userserv.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.userserv.cache.SerializedResponse;
+import org.example.userserv.dto.UserProfileResponse;
+import org.example.userserv.util.FieldSelection;
+import org.example.userserv.util.SecurityUtil;
+import org.example.userserv.util.SparseFieldsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import java.util.UUID;
+
+@Service
+public class SerializedUserService {
+    private static final String CACHE_USER_RESPONSES = "user-responses";
+    private final UserService userService;
+    private final CacheManager cacheManager;
+    private final SecurityUtil securityUtil;
+    private final ObjectMapper objectMapper;
+    private final SparseFieldsWriter sparseFieldsWriter;
+    private final boolean cacheEnabled;
+    private final int compressionThreshold;
+
+    public SerializedUserService(UserService userService, CacheManager cacheManager, SecurityUtil securityUtil,
+                                 ObjectMapper objectMapper, SparseFieldsWriter sparseFieldsWriter,
+                                 @Value("${cache.serialized-responses.enabled:true}") boolean cacheEnabled,
+                                 @Value("${cache.serialized-responses.compression-threshold:2048}")
+                                 int compressionThreshold) {
+        this.userService = userService;
+        this.cacheManager = cacheManager;
+        this.securityUtil = securityUtil;
+        this.objectMapper = objectMapper;
+        this.sparseFieldsWriter = sparseFieldsWriter;
+        this.cacheEnabled = cacheEnabled;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public SerializedResponse findById(UUID id) {
+        if (!securityUtil.getCurrentUserId().equals(id))
+            throw new AccessDeniedException("Access denied");
+
+        Cache cache = cacheEnabled ? cacheManager.getCache(CACHE_USER_RESPONSES) : null;
+        byte[] cached = cache != null ? cache.get(id, byte[].class) : null;
+        if (cached != null) return SerializedResponse.decode(cached);
+
+        SerializedResponse response = SerializedResponse.of(serialize(userService.findById(id)),
+                compressionThreshold);
+        if (cache != null) cache.put(id, response.encode());
+
+        return response;
+    }
+
+    public SerializedResponse findProfileById(UUID id) {
+        return SerializedResponse.of(serialize(userService.findProfileById(id)), compressionThreshold);
+    }
+
+    public SerializedResponse findById(UUID id, FieldSelection fields) {
+        UserProfileResponse user = fields.includes("cards") ? userService.findById(id) : userService.findProfileById(id);
+
+        return SerializedResponse.of(sparseFieldsWriter.writeUsers(user, fields), compressionThreshold);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.userserv.service;
+
+import org.example.userserv.dto.UserResponse;
+import org.example.userserv.dto.UserSearchResponse;
+import org.example.userserv.exception.InvalidRequestParameterException;
+import org.example.userserv.repository.UserSearchCursor;
+import org.example.userserv.repository.UserSearchRepository;
+import org.example.userserv.repository.UserSearchRow;
+import org.example.userserv.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+public class UserSearchService {
+    private static final Comparator<UserSearchRow> CURSOR_ORDER = Comparator
+            .comparing((UserSearchRow row) -> row.cursor().surname())
+            .thenComparing(row -> row.cursor().name())
+            .thenComparing(row -> row.cursor().id().toString());
+
+    private final UserSearchRepository userSearchRepository;
+    private final ShardRouter shardRouter;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public UserSearchService(UserSearchRepository userSearchRepository, ShardRouter shardRouter,
+                             @Value("${users.search.default-limit:20}") int defaultLimit,
+                             @Value("${users.search.max-limit:100}") int maxLimit) {
+        this.userSearchRepository = userSearchRepository;
+        this.shardRouter = shardRouter;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public UserSearchResponse search(String surname, String name, boolean fuzzy, String cursor, Integer limit) {
+        if (surname == null || surname.isBlank())
+            throw new InvalidRequestParameterException("Surname can't be blank");
+
+        String namePrefix = name == null || name.isBlank() ? null : name;
+        int size = limit == null ? defaultLimit : Math.clamp(limit, 1, maxLimit);
+
+        if (fuzzy) {
+            List<UserResponse> users = shardRouter.onAllShards(
+                    () -> userSearchRepository.findBySimilarity(surname, namePrefix, size));
+            return new UserSearchResponse(users.size() > size ? users.subList(0, size) : users, null);
+        }
+
+        UserSearchCursor after = cursor == null ? null : UserSearchCursor.decode(cursor);
+        List<UserSearchRow> rows = shardRouter.onAllShards(
+                () -> userSearchRepository.findBySurnamePrefix(surname, namePrefix, after, size + 1));
+        if (shardRouter.isEnabled()) rows = rows.stream().sorted(CURSOR_ORDER).limit(size + 1).toList();
+        boolean hasMore = rows.size() > size;
+        List<UserSearchRow> page = hasMore ? rows.subList(0, size) : rows;
+
+        return new UserSearchResponse(page.stream().map(UserSearchRow::user).toList(),
+                hasMore ? page.get(size - 1).cursor().encode() : null);
+    }
+}
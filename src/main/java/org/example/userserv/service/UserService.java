@@ -2,55 +2,68 @@ package org.example.userserv.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.userserv.dto.UserCardRow;
+import org.example.userserv.dto.UserProfileResponse;
 import org.example.userserv.dto.UserRequest;
 import org.example.userserv.dto.UserResponse;
-import org.example.userserv.entity.Card;
 import org.example.userserv.entity.User;
 import org.example.userserv.exception.UserNotFoundException;
 import org.example.userserv.exception.ValueAlreadyExistsException;
 import org.example.userserv.mapper.UserMapper;
 import org.example.userserv.repository.CardRepository;
 import org.example.userserv.repository.UserRepository;
+import org.example.userserv.sharding.ShardDirectory;
+import org.example.userserv.sharding.ShardRouter;
+import org.example.userserv.util.EmailFilter;
 import org.example.userserv.util.SecurityUtil;
+import org.example.userserv.util.TransactionHooks;
 import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private static final String CACHE_USERS = "users";
+    private static final String CACHE_USER_PROFILES = "user-profiles";
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final CardRepository cardRepository;
-    private final RedisCacheManager cacheManager;
+    private final CacheManager cacheManager;
     private final SecurityUtil securityUtil;
+    private final EmailFilter emailFilter;
+    private final ChunkedLookupExecutor chunkedLookupExecutor;
+    private final RequestCoalescer requestCoalescer;
+    private final CardPageService cardPageService;
+    private final ShardRouter shardRouter;
+    private final ShardDirectory shardDirectory;
 
     public UserResponse create(UserRequest userRequest) {
-        if (userRepository.existsByEmail(userRequest.getEmail()))
+        if (isEmailTaken(userRequest.getEmail()))
             throw new ValueAlreadyExistsException("email", userRequest.getEmail());
 
         User user = userMapper.toEntity(userRequest);
         user.setId(securityUtil.getCurrentUserId());
 
-        return userMapper.toResponse(userRepository.save(user));
+        return userMapper.toResponse(saveUser(user, null));
     }
 
-    @Cacheable(value = CACHE_USERS, key = "#id")
     public UserResponse findById(UUID id) {
         if (!securityUtil.getCurrentUserId().equals(id))
             throw new AccessDeniedException("Access denied");
 
-        return userRepository.findById(id).map(userMapper::toResponse)
-                .orElseThrow(UserNotFoundException::new);
+        return requestCoalescer.load(CACHE_USERS, id, () -> cached(CACHE_USERS, id, UserResponse.class,
+                () -> toSingleResponse(userRepository.findRowsById(id))));
     }
 
     public List<UserResponse> findByIds(List<UUID> ids) {
@@ -58,13 +71,66 @@ public class UserService {
             return Collections.emptyList();
         }
 
-        return userRepository.findByIds(ids).stream().map(userMapper::toResponse).toList();
+        return chunkedLookupExecutor.load(ids, this::loadUsers, UserResponse::getId);
+    }
+
+    public List<UserProfileResponse> findProfilesByIds(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return chunkedLookupExecutor.load(ids, chunk -> shardRouter.scatterGather(chunk,
+                userRepository::findProfilesByIds), UserProfileResponse::getId);
+    }
+
+    public Consumer<Consumer<List<UserResponse>>> streamByIds(List<UUID> ids) {
+        List<UUID> distinctIds = chunkedLookupExecutor.distinct(ids);
+
+        return onChunk -> chunkedLookupExecutor.stream(distinctIds, this::loadUsers, onChunk);
+    }
+
+    private List<UserResponse> loadUsers(List<UUID> ids) {
+        return shardRouter.scatterGather(ids,
+                shardIds -> userMapper.toResponses(userRepository.findRowsByIds(shardIds)));
     }
 
-    @Cacheable(value = CACHE_USERS, key = "#email")
     public UserResponse findByEmail(String email) {
-        return userRepository.findByEmail(email).map(userMapper::toResponse)
-                .orElseThrow(UserNotFoundException::new);
+        return requestCoalescer.load(CACHE_USERS, email, () -> cached(CACHE_USERS, email, UserResponse.class,
+                () -> shardRouter.onShardOfEmail(email,
+                        () -> toSingleResponse(userRepository.findRowsByEmail(email)))));
+    }
+
+    public UserProfileResponse findProfileById(UUID id) {
+        if (!securityUtil.getCurrentUserId().equals(id))
+            throw new AccessDeniedException("Access denied");
+
+        return requestCoalescer.load(CACHE_USER_PROFILES, id, () -> cached(CACHE_USER_PROFILES, id,
+                UserProfileResponse.class,
+                () -> userRepository.findProfileById(id).orElseThrow(UserNotFoundException::new)));
+    }
+
+    public UserProfileResponse findProfileByEmail(String email) {
+        return requestCoalescer.load(CACHE_USER_PROFILES, email, () -> cached(CACHE_USER_PROFILES, email,
+                UserProfileResponse.class,
+                () -> shardRouter.onShardOfEmail(email,
+                        () -> userRepository.findProfileByEmail(email).orElseThrow(UserNotFoundException::new))));
+    }
+
+    private <T> T cached(String cacheName, Object key, Class<T> type, Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        T cached = cache != null ? cache.get(key, type) : null;
+        if (cached != null) return cached;
+
+        T value = loader.get();
+        if (cache != null) cache.put(key, value);
+
+        return value;
+    }
+
+    private UserResponse toSingleResponse(List<UserCardRow> rows) {
+        if (rows.isEmpty()) throw new UserNotFoundException();
+
+        return userMapper.toResponses(rows).get(0);
     }
 
     @CachePut(value = CACHE_USERS, key = "#id")
@@ -74,10 +140,34 @@ public class UserService {
             throw new AccessDeniedException("Access denied");
 
         User user = userRepository.findById(id).orElseThrow(UserNotFoundException::new);
+        String previousEmail = user.getEmail();
 
         updateUserFields(user, userRequest);
 
-        return userMapper.toResponse(userRepository.save(user));
+        return userMapper.toResponse(saveUser(user, previousEmail));
+    }
+
+    private User saveUser(User user, String previousEmail) {
+        boolean emailChanged = !user.getEmail().equals(previousEmail);
+        if (emailChanged && !shardDirectory.reserveEmail(user.getEmail(), user.getId()))
+            throw new ValueAlreadyExistsException("email", user.getEmail());
+        if (emailChanged)
+            TransactionHooks.afterRollback(() -> shardDirectory.releaseEmail(user.getEmail(), user.getId()));
+
+        User saved;
+        try {
+            saved = userRepository.saveAndFlush(user);
+        } catch (RuntimeException e) {
+            if (emailChanged) shardDirectory.releaseEmail(user.getEmail(), user.getId());
+            if (e instanceof DataIntegrityViolationException)
+                throw new ValueAlreadyExistsException("email", user.getEmail());
+            throw e;
+        }
+
+        if (emailChanged && previousEmail != null)
+            TransactionHooks.afterCommit(() -> shardDirectory.releaseEmail(previousEmail, user.getId()));
+        emailFilter.put(saved.getEmail());
+        return saved;
     }
 
     private void updateUserFields(User user, UserRequest userRequest) {
@@ -105,30 +195,36 @@ public class UserService {
     }
 
     private boolean isUserEmailUnique(User user, String email) {
-        if (userRepository.existsByEmail(email) && !user.getEmail().equals(email)) {
+        if (!user.getEmail().equals(email) && isEmailTaken(email)) {
             throw new ValueAlreadyExistsException("email", email);
         }
 
         return true;
     }
 
+    private boolean isEmailTaken(String email) {
+        return emailFilter.mightContain(email) && userRepository.existsByEmail(email);
+    }
+
     @CacheEvict(value = CACHE_USERS, key = "#id")
     @Transactional
     public void delete(UUID id) {
         if (!securityUtil.getCurrentUserId().equals(id))
             throw new AccessDeniedException("Access denied");
 
-        User user = userRepository.findById(id).orElseThrow(UserNotFoundException::new);
+        String email = userRepository.findEmailById(id).orElseThrow(UserNotFoundException::new);
+        List<Long> cardIds = cardRepository.findIdsByUserId(id);
+
+        if (userRepository.deleteUserById(id) == 0) throw new UserNotFoundException();
+        TransactionHooks.afterCommit(() -> shardDirectory.releaseUser(id));
 
-        List<Card> cards = cardRepository.findByUserId(id);
         Cache cardsCache = cacheManager.getCache("cards");
         if (cardsCache != null) {
-            for (Card card : cards) cardsCache.evict(card.getId());
+            for (Long cardId : cardIds) cardsCache.evict(cardId);
         }
 
         Optional.ofNullable(cacheManager.getCache(CACHE_USERS))
-                .ifPresent(c -> c.evict(user.getEmail()));
-
-        userRepository.deleteById(id);
+                .ifPresent(c -> c.evict(email));
+        cardPageService.invalidate(id);
     }
 }
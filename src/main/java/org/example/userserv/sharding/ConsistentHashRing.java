@@ -0,0 +1,59 @@
+package org.example.userserv.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+public class ConsistentHashRing {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+    private final List<Integer> shards;
+
+    public ConsistentHashRing(List<Integer> shards, int virtualNodes) {
+        if (shards.isEmpty()) throw new IllegalArgumentException("Hash ring needs at least one shard");
+        if (virtualNodes < 1) throw new IllegalArgumentException("Hash ring needs at least one virtual node");
+
+        this.shards = shards.stream().distinct().sorted().toList();
+        for (Integer shard : this.shards) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(hash("shard-" + shard + "#" + node), shard);
+            }
+        }
+    }
+
+    public int shardFor(UUID id) {
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(hash(id));
+
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    public List<Integer> shards() {
+        return shards;
+    }
+
+    private static long hash(UUID id) {
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    private static long hash(String label) {
+        long hash = FNV_OFFSET;
+        for (byte b : label.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+
+        return z ^ (z >>> 31);
+    }
+}
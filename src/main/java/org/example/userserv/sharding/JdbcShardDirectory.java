@@ -0,0 +1,107 @@
+package org.example.userserv.sharding;
+
+import org.example.userserv.util.EmailUtil;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class JdbcShardDirectory implements ShardDirectory {
+    private static final String SELECT_USER_BY_EMAIL = "select user_id from user_emails where email = :email";
+    private static final String RESERVE_EMAIL =
+            "insert into user_emails (email, user_id) values (:email, :userId) " +
+            "on conflict (email) do update set user_id = excluded.user_id " +
+            "where user_emails.user_id = excluded.user_id";
+    private static final String RELEASE_EMAIL =
+            "delete from user_emails where email = :email and user_id = :userId";
+    private static final String RESERVE_CARD_NUMBER =
+            "insert into card_numbers (number_hash, user_id) values (:numberHash, :userId) " +
+            "on conflict (number_hash) do update set user_id = excluded.user_id " +
+            "where card_numbers.user_id = excluded.user_id";
+    private static final String RELEASE_CARD_NUMBER =
+            "delete from card_numbers where number_hash = :numberHash and user_id = :userId";
+    private static final String RELEASE_USER_EMAILS = "delete from user_emails where user_id = :userId";
+    private static final String RELEASE_USER_CARD_NUMBERS = "delete from card_numbers where user_id = :userId";
+    private static final String SELECT_PLACEMENTS =
+            "select user_id, shard from user_placements where user_id in (:userIds)";
+    private static final String SAVE_PLACEMENT =
+            "insert into user_placements (user_id, shard) values (:userId, :shard) " +
+            "on conflict (user_id) do update set shard = excluded.shard, moved_at = now()";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcShardDirectory(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<UUID> findUserIdByEmail(String email) {
+        return jdbcTemplate.query(SELECT_USER_BY_EMAIL, Map.of("email", EmailUtil.normalize(email)),
+                        (rs, rowNum) -> rs.getObject(1, UUID.class))
+                .stream().findFirst();
+    }
+
+    @Override
+    public boolean reserveEmail(String email, UUID userId) {
+        return jdbcTemplate.update(RESERVE_EMAIL, emailParams(email, userId)) > 0;
+    }
+
+    @Override
+    public void releaseEmail(String email, UUID userId) {
+        jdbcTemplate.update(RELEASE_EMAIL, emailParams(email, userId));
+    }
+
+    @Override
+    public boolean reserveCardNumber(byte[] numberHash, UUID userId) {
+        return jdbcTemplate.update(RESERVE_CARD_NUMBER, cardNumberParams(numberHash, userId)) > 0;
+    }
+
+    @Override
+    public void releaseCardNumber(byte[] numberHash, UUID userId) {
+        if (numberHash == null) return;
+
+        jdbcTemplate.update(RELEASE_CARD_NUMBER, cardNumberParams(numberHash, userId));
+    }
+
+    @Override
+    public void releaseUser(UUID userId) {
+        Map<String, UUID> params = Map.of("userId", userId);
+        jdbcTemplate.update(RELEASE_USER_EMAILS, params);
+        jdbcTemplate.update(RELEASE_USER_CARD_NUMBERS, params);
+    }
+
+    @Override
+    public Map<UUID, Integer> findPlacements(Collection<UUID> userIds) {
+        Map<UUID, Integer> placements = new HashMap<>();
+        if (userIds.isEmpty()) return placements;
+
+        jdbcTemplate.query(SELECT_PLACEMENTS, Map.of("userIds", userIds),
+                rs -> {
+                    placements.put(rs.getObject("user_id", UUID.class), rs.getInt("shard"));
+                });
+
+        return placements;
+    }
+
+    @Override
+    public void savePlacement(UUID userId, int shard) {
+        jdbcTemplate.update(SAVE_PLACEMENT, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("shard", shard));
+    }
+
+    private MapSqlParameterSource emailParams(String email, UUID userId) {
+        return new MapSqlParameterSource()
+                .addValue("email", EmailUtil.normalize(email))
+                .addValue("userId", userId);
+    }
+
+    private MapSqlParameterSource cardNumberParams(byte[] numberHash, UUID userId) {
+        return new MapSqlParameterSource()
+                .addValue("numberHash", numberHash)
+                .addValue("userId", userId);
+    }
+}
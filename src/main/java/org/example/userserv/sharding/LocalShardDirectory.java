@@ -0,0 +1,44 @@
+package org.example.userserv.sharding;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class LocalShardDirectory implements ShardDirectory {
+    @Override
+    public Optional<UUID> findUserIdByEmail(String email) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean reserveEmail(String email, UUID userId) {
+        return true;
+    }
+
+    @Override
+    public void releaseEmail(String email, UUID userId) {
+    }
+
+    @Override
+    public boolean reserveCardNumber(byte[] numberHash, UUID userId) {
+        return true;
+    }
+
+    @Override
+    public void releaseCardNumber(byte[] numberHash, UUID userId) {
+    }
+
+    @Override
+    public void releaseUser(UUID userId) {
+    }
+
+    @Override
+    public Map<UUID, Integer> findPlacements(Collection<UUID> userIds) {
+        return Map.of();
+    }
+
+    @Override
+    public void savePlacement(UUID userId, int shard) {
+    }
+}
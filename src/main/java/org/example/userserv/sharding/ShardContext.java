@@ -0,0 +1,31 @@
+package org.example.userserv.sharding;
+
+public final class ShardContext {
+    public static final Scope NONE = () -> {
+    };
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static Scope enter(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+
+        return () -> {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.userserv.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ShardDataSources implements AutoCloseable {
+    private final Map<Integer, HikariDataSource> shards = new TreeMap<>();
+    private final HikariDataSource directory;
+
+    public ShardDataSources(ShardingProperties properties) {
+        if (properties.getShards().isEmpty())
+            throw new IllegalStateException("Sharding is enabled but no shards are configured");
+
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            if (shard.getIndex() < 0 || shard.getIndex() >= properties.getMaxShards())
+                throw new IllegalStateException("Shard index must be in [0, " + properties.getMaxShards() + ")");
+            if (shards.put(shard.getIndex(), create("shard-" + shard.getIndex(), shard)) != null)
+                throw new IllegalStateException("Duplicate shard index " + shard.getIndex());
+        }
+
+        this.directory = create("shard-directory", properties.getDirectory());
+    }
+
+    public Map<Integer, HikariDataSource> shards() {
+        return Collections.unmodifiableMap(shards);
+    }
+
+    public HikariDataSource shard(int index) {
+        HikariDataSource dataSource = shards.get(index);
+        if (dataSource == null) throw new IllegalStateException("Unknown shard " + index);
+
+        return dataSource;
+    }
+
+    public int defaultShard() {
+        return shards.keySet().iterator().next();
+    }
+
+    public HikariDataSource directory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        shards.values().forEach(HikariDataSource::close);
+        directory.close();
+    }
+
+    private static HikariDataSource create(String poolName, ShardingProperties.Database database) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(database.getUrl());
+        dataSource.setUsername(database.getUsername());
+        dataSource.setPassword(database.getPassword());
+        dataSource.setMaximumPoolSize(database.getMaximumPoolSize());
+
+        return dataSource;
+    }
+}
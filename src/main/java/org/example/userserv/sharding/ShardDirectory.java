@@ -0,0 +1,24 @@
+package org.example.userserv.sharding;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ShardDirectory {
+    Optional<UUID> findUserIdByEmail(String email);
+
+    boolean reserveEmail(String email, UUID userId);
+
+    void releaseEmail(String email, UUID userId);
+
+    boolean reserveCardNumber(byte[] numberHash, UUID userId);
+
+    void releaseCardNumber(byte[] numberHash, UUID userId);
+
+    void releaseUser(UUID userId);
+
+    Map<UUID, Integer> findPlacements(Collection<UUID> userIds);
+
+    void savePlacement(UUID userId, int shard);
+}
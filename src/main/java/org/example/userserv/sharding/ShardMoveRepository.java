@@ -0,0 +1,108 @@
+package org.example.userserv.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class ShardMoveRepository {
+    private static final String SELECT_USER_IDS = "select id from users where id > ? order by id limit ?";
+    private static final String LOCK_USER =
+            "select id, name, surname, birth_date, email from users where id = ? for update";
+    private static final String LOCK_CARDS =
+            "select id, user_id, number, number_hash, holder, expiration_date from cards where user_id = ? " +
+            "order by id for update";
+    private static final String INSERT_USER =
+            "insert into users (id, name, surname, birth_date, email) values (?, ?, ?, ?, ?) " +
+            "on conflict (id) do nothing";
+    private static final String INSERT_CARD =
+            "insert into cards (id, user_id, number, number_hash, holder, expiration_date) " +
+            "values (?, ?, ?, ?, ?, ?) on conflict do nothing";
+    private static final String DELETE_USER = "delete from users where id = ?";
+    private static final String SELECT_EMAILS = "select email, id from users where id > ? order by id limit ?";
+    private static final String SELECT_CARD_NUMBERS =
+            "select number_hash, user_id, id from cards where id > ? and number_hash is not null " +
+            "order by id limit ?";
+    private static final String REGISTER_EMAIL =
+            "insert into user_emails (email, user_id) values (?, ?) on conflict (email) do nothing";
+    private static final String REGISTER_CARD_NUMBER =
+            "insert into card_numbers (number_hash, user_id) values (?, ?) on conflict (number_hash) do nothing";
+
+    private static final RowMapper<Object[]> USER_ROW = (rs, rowNum) -> new Object[]{
+            rs.getObject("id"), rs.getString("name"), rs.getString("surname"),
+            rs.getDate("birth_date"), rs.getString("email")};
+    private static final RowMapper<Object[]> CARD_ROW = (rs, rowNum) -> new Object[]{
+            rs.getLong("id"), rs.getObject("user_id"), rs.getString("number"), rs.getBytes("number_hash"),
+            rs.getString("holder"), rs.getDate("expiration_date")};
+
+    private final Map<Integer, JdbcTemplate> jdbcTemplates = new HashMap<>();
+    private final Map<Integer, TransactionTemplate> transactionTemplates = new HashMap<>();
+    private final JdbcTemplate directoryTemplate;
+    private final ShardDirectory shardDirectory;
+
+    public ShardMoveRepository(ShardDataSources dataSources, ShardDirectory shardDirectory) {
+        dataSources.shards().forEach((index, dataSource) -> {
+            jdbcTemplates.put(index, new JdbcTemplate(dataSource));
+            transactionTemplates.put(index, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        });
+        this.directoryTemplate = new JdbcTemplate(dataSources.directory());
+        this.shardDirectory = shardDirectory;
+    }
+
+    public List<UUID> findUserIds(int shard, UUID after, int limit) {
+        return jdbc(shard).queryForList(SELECT_USER_IDS, UUID.class, after, limit);
+    }
+
+    public boolean moveUser(UUID userId, int source, int target) {
+        Boolean moved = transactionTemplates.get(source).execute(status -> {
+            List<Object[]> user = jdbc(source).query(LOCK_USER, USER_ROW, userId);
+            if (user.isEmpty()) return false;
+
+            List<Object[]> cards = jdbc(source).query(LOCK_CARDS, CARD_ROW, userId);
+            transactionTemplates.get(target).executeWithoutResult(targetStatus -> {
+                jdbc(target).update(INSERT_USER, user.get(0));
+                jdbc(target).batchUpdate(INSERT_CARD, cards);
+            });
+
+            shardDirectory.savePlacement(userId, target);
+            jdbc(source).update(DELETE_USER, userId);
+            return true;
+        });
+
+        return Boolean.TRUE.equals(moved);
+    }
+
+    public UUID registerEmails(int shard, UUID after, int limit) {
+        List<Object[]> rows = jdbc(shard).query(SELECT_EMAILS,
+                (rs, rowNum) -> new Object[]{rs.getString("email"), rs.getObject("id")}, after, limit);
+        if (rows.isEmpty()) return null;
+
+        directoryTemplate.batchUpdate(REGISTER_EMAIL, rows);
+        return (UUID) rows.get(rows.size() - 1)[1];
+    }
+
+    public Long registerCardNumbers(int shard, long after, int limit) {
+        List<Object[]> rows = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        jdbc(shard).query(SELECT_CARD_NUMBERS, rs -> {
+            rows.add(new Object[]{rs.getBytes("number_hash"), rs.getObject("user_id")});
+            ids.add(rs.getLong("id"));
+        }, after, limit);
+        if (rows.isEmpty()) return null;
+
+        directoryTemplate.batchUpdate(REGISTER_CARD_NUMBER, rows);
+        return ids.get(ids.size() - 1);
+    }
+
+    private JdbcTemplate jdbc(int shard) {
+        JdbcTemplate jdbcTemplate = jdbcTemplates.get(shard);
+        if (jdbcTemplate == null) throw new IllegalStateException("Unknown shard " + shard);
+
+        return jdbcTemplate;
+    }
+}
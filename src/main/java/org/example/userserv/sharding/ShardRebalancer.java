@@ -0,0 +1,95 @@
+package org.example.userserv.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.userserv.util.AdvisoryLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+public class ShardRebalancer {
+    private static final UUID MIN_UUID = new UUID(0, 0);
+    private static final String LOCK_NAME = "shard-rebalancer";
+
+    private final ShardRouter shardRouter;
+    private final ShardMoveRepository shardMoveRepository;
+    private final DataSource lockDataSource;
+    private final int batchSize;
+    private final Duration pause;
+
+    public ShardRebalancer(ShardRouter shardRouter, ShardMoveRepository shardMoveRepository,
+                           DataSource lockDataSource, int batchSize, Duration pause) {
+        this.shardRouter = shardRouter;
+        this.shardMoveRepository = shardMoveRepository;
+        this.lockDataSource = lockDataSource;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofVirtual().name("shard-rebalancer").start(this::rebalance);
+    }
+
+    public void rebalance() {
+        try (AdvisoryLock lock = AdvisoryLock.tryAcquire(lockDataSource, LOCK_NAME)) {
+            if (lock == null) {
+                log.info("Resharding is already running on another node");
+                return;
+            }
+
+            for (int shard : shardRouter.shards()) {
+                registerKeys(shard);
+            }
+            if (!shardRouter.isResharding()) {
+                log.info("Shard directory is up to date, no target ring configured");
+                return;
+            }
+
+            long moved = 0;
+            for (int shard : shardRouter.shards()) {
+                moved += moveMisplacedUsers(shard);
+            }
+            log.info("Resharding completed, moved {} users; promote sharding.target-ring to sharding.ring", moved);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Resharding interrupted");
+        } catch (RuntimeException e) {
+            log.error("Resharding failed, it will resume on next start", e);
+        }
+    }
+
+    private void registerKeys(int shard) throws InterruptedException {
+        UUID lastUser = MIN_UUID;
+        while ((lastUser = shardMoveRepository.registerEmails(shard, lastUser, batchSize)) != null) {
+            Thread.sleep(pause);
+        }
+
+        Long lastCard = 0L;
+        while ((lastCard = shardMoveRepository.registerCardNumbers(shard, lastCard, batchSize)) != null) {
+            Thread.sleep(pause);
+        }
+    }
+
+    private long moveMisplacedUsers(int shard) throws InterruptedException {
+        long moved = 0;
+        UUID after = MIN_UUID;
+        List<UUID> userIds;
+
+        while (!(userIds = shardMoveRepository.findUserIds(shard, after, batchSize)).isEmpty()) {
+            for (UUID userId : userIds) {
+                int target = shardRouter.targetShardFor(userId);
+                if (target != shard && shardMoveRepository.moveUser(userId, shard, target)) moved++;
+            }
+
+            after = userIds.get(userIds.size() - 1);
+            log.info("Resharding shard {}: {} users moved so far", shard, moved);
+            Thread.sleep(pause);
+        }
+
+        return moved;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.userserv.sharding;
+
+import org.example.userserv.exception.UserNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class ShardRouter {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConsistentHashRing ring;
+    private final ConsistentHashRing targetRing;
+    private final ShardDirectory shardDirectory;
+    private final List<Integer> allShards;
+
+    public ShardRouter(ConsistentHashRing ring, ConsistentHashRing targetRing, ShardDirectory shardDirectory) {
+        this.ring = ring;
+        this.targetRing = targetRing;
+        this.shardDirectory = shardDirectory;
+        this.allShards = ring == null ? List.of() : Stream.concat(ring.shards().stream(),
+                targetRing == null ? Stream.empty() : targetRing.shards().stream()).distinct().sorted().toList();
+    }
+
+    public static ShardRouter disabled() {
+        return new ShardRouter(null, null, new LocalShardDirectory());
+    }
+
+    public boolean isEnabled() {
+        return ring != null;
+    }
+
+    public boolean isResharding() {
+        return targetRing != null;
+    }
+
+    public List<Integer> shards() {
+        return allShards;
+    }
+
+    public int shardFor(UUID userId) {
+        if (isResharding()) {
+            Integer placement = shardDirectory.findPlacements(List.of(userId)).get(userId);
+            if (placement != null) return placement;
+        }
+
+        return ring.shardFor(userId);
+    }
+
+    public int targetShardFor(UUID userId) {
+        return (isResharding() ? targetRing : ring).shardFor(userId);
+    }
+
+    public ShardContext.Scope enter(UUID userId) {
+        return isEnabled() ? ShardContext.enter(shardFor(userId)) : ShardContext.NONE;
+    }
+
+    public <T> T onShardOfEmail(String email, Supplier<T> action) {
+        if (!isEnabled()) return action.get();
+
+        UUID userId = shardDirectory.findUserIdByEmail(email).orElseThrow(UserNotFoundException::new);
+        try (ShardContext.Scope ignored = enter(userId)) {
+            return action.get();
+        }
+    }
+
+    public <R> List<R> scatterGather(List<UUID> userIds, Function<List<UUID>, List<R>> loader) {
+        if (!isEnabled()) return loader.apply(userIds);
+
+        Map<UUID, Integer> placements = isResharding() ? shardDirectory.findPlacements(userIds) : Map.of();
+        Map<Integer, List<UUID>> byShard = new TreeMap<>();
+        for (UUID id : userIds) {
+            int shard = placements.getOrDefault(id, ring.shardFor(id));
+            byShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(id);
+        }
+
+        return gather(byShard.entrySet().stream()
+                .map(e -> onShard(e.getKey(), () -> loader.apply(e.getValue())))
+                .toList());
+    }
+
+    public <R> List<R> onAllShards(Supplier<List<R>> action) {
+        if (!isEnabled()) return action.get();
+
+        return gather(allShards.stream().map(shard -> onShard(shard, action)).toList());
+    }
+
+    public long forEachShard(LongSupplier action) {
+        if (!isEnabled()) return action.getAsLong();
+
+        long total = 0;
+        for (int shard : allShards) {
+            try (ShardContext.Scope ignored = ShardContext.enter(shard)) {
+                total += action.getAsLong();
+            }
+        }
+
+        return total;
+    }
+
+    private <R> Supplier<List<R>> onShard(int shard, Supplier<List<R>> action) {
+        return () -> {
+            try (ShardContext.Scope ignored = ShardContext.enter(shard)) {
+                return action.get();
+            }
+        };
+    }
+
+    private <R> List<R> gather(List<Supplier<List<R>>> tasks) {
+        if (tasks.size() == 1) return tasks.get(0).get();
+
+        List<CompletableFuture<List<R>>> futures = tasks.stream()
+                .map(task -> CompletableFuture.supplyAsync(task, executor))
+                .toList();
+        try {
+            return futures.stream().flatMap(f -> f.join().stream()).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
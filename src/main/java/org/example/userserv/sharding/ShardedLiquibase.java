@@ -0,0 +1,51 @@
+package org.example.userserv.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.core.io.ResourceLoader;
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ShardedLiquibase extends SpringLiquibase {
+    private final ShardDataSources dataSources;
+    private final String shardChangeLog;
+    private final String directoryChangeLog;
+    private final Map<String, String> baseParameters;
+    private final int idStride;
+    private final ResourceLoader loader;
+
+    public ShardedLiquibase(ShardDataSources dataSources, String shardChangeLog, String directoryChangeLog,
+                            Map<String, String> baseParameters, int idStride, ResourceLoader loader) {
+        this.dataSources = dataSources;
+        this.shardChangeLog = shardChangeLog;
+        this.directoryChangeLog = directoryChangeLog;
+        this.baseParameters = Map.copyOf(baseParameters);
+        this.idStride = idStride;
+        this.loader = loader;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws LiquibaseException {
+        update(dataSources.directory(), directoryChangeLog, baseParameters);
+
+        for (Map.Entry<Integer, HikariDataSource> shard : dataSources.shards().entrySet()) {
+            Map<String, String> shardParameters = new HashMap<>(baseParameters);
+            shardParameters.put("shard.index", String.valueOf(shard.getKey()));
+            shardParameters.put("shard.id-stride", String.valueOf(idStride));
+
+            update(shard.getValue(), shardChangeLog, shardParameters);
+        }
+    }
+
+    private void update(DataSource dataSource, String changeLog, Map<String, String> changeLogParameters)
+            throws LiquibaseException {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(changeLog);
+        liquibase.setChangeLogParameters(changeLogParameters);
+        liquibase.setResourceLoader(loader);
+        liquibase.afterPropertiesSet();
+    }
+}
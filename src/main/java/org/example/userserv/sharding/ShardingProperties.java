@@ -0,0 +1,49 @@
+package org.example.userserv.sharding;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+    private boolean enabled;
+    private int virtualNodes = 128;
+    private int maxShards = 1024;
+    private List<Shard> shards = new ArrayList<>();
+    private Database directory = new Database();
+    private List<Integer> ring = new ArrayList<>();
+    private List<Integer> targetRing = new ArrayList<>();
+    private Resharding resharding = new Resharding();
+
+    public List<Integer> ringOrAllShards() {
+        return ring.isEmpty() ? shards.stream().map(Shard::getIndex).toList() : ring;
+    }
+
+    @Data
+    public static class Database {
+        private String url;
+        private String username;
+        @ToString.Exclude
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class Shard extends Database {
+        private int index;
+    }
+
+    @Data
+    public static class Resharding {
+        private boolean enabled;
+        private int batchSize = 500;
+        private Duration pause = Duration.ofMillis(50);
+    }
+}
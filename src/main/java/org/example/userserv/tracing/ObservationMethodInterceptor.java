@@ -0,0 +1,36 @@
+package org.example.userserv.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+public class ObservationMethodInterceptor implements MethodInterceptor {
+    private final Supplier<ObservationRegistry> observationRegistry;
+    private final String observationName;
+    private final String component;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) return invocation.proceed();
+
+        String method = invocation.getMethod().getName();
+        Observation observation = Observation.createNotStarted(observationName, observationRegistry.get())
+                .contextualName(component + "." + method)
+                .lowCardinalityKeyValue("component", component)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+
+        try (Observation.Scope ignored = observation.openScope()) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.userserv.tracing;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+public class ObservedComponentPostProcessor implements BeanPostProcessor {
+    public static final String REPOSITORY_OBSERVATION = "userserv.repository";
+    public static final String MAPPING_OBSERVATION = "userserv.mapping";
+
+    private final Supplier<ObservationRegistry> observationRegistry;
+    private final String mapperPackage;
+
+    public ObservedComponentPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry,
+                                          String mapperPackage) {
+        this.observationRegistry = SingletonSupplier.of(() -> observationRegistry.getIfAvailable(
+                () -> ObservationRegistry.NOOP));
+        this.mapperPackage = mapperPackage;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+
+        if (bean instanceof Repository<?, ?>)
+            return observe(bean, REPOSITORY_OBSERVATION, StringUtils.capitalize(beanName));
+        if (AnnotatedElementUtils.hasAnnotation(targetClass, org.springframework.stereotype.Repository.class))
+            return observe(bean, REPOSITORY_OBSERVATION, targetClass.getSimpleName());
+        if (targetClass.getPackageName().equals(mapperPackage))
+            return observe(bean, MAPPING_OBSERVATION, mapperName(targetClass));
+
+        return bean;
+    }
+
+    private String mapperName(Class<?> targetClass) {
+        return Arrays.stream(ClassUtils.getAllInterfacesForClass(targetClass))
+                .filter(type -> type.getPackageName().equals(mapperPackage))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElse(targetClass.getSimpleName());
+    }
+
+    private Object observe(Object bean, String observationName, String component) {
+        ObservationMethodInterceptor interceptor =
+                new ObservationMethodInterceptor(observationRegistry, observationName, component);
+
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(interceptor);
+
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.userserv.util;
+
+import java.util.Locale;
+
+public final class AcceptEncoding {
+    private static final String WILDCARD = "*";
+
+    private AcceptEncoding() {
+    }
+
+    public static boolean accepts(String header, String coding) {
+        if (header == null) return false;
+
+        Double explicit = null;
+        Double wildcard = null;
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+
+            if (name.equals(coding) || name.equals("x-" + coding)) {
+                explicit = explicit == null ? quality : Math.max(explicit, quality);
+            } else if (name.equals(WILDCARD)) {
+                wildcard = quality;
+            }
+        }
+
+        Double quality = explicit != null ? explicit : wildcard;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            int separator = parameter.indexOf('=');
+            if (separator < 0 || !parameter.substring(0, separator).trim().equalsIgnoreCase("q")) continue;
+
+            try {
+                return Double.parseDouble(parameter.substring(separator + 1).trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        return 1;
+    }
+}
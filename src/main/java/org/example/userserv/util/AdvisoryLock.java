@@ -0,0 +1,64 @@
+package org.example.userserv.util;
+
+import org.springframework.jdbc.UncategorizedSQLException;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public final class AdvisoryLock implements AutoCloseable {
+    private static final String TRY_LOCK = "select pg_try_advisory_lock(hashtext(?))";
+    private static final String UNLOCK = "select pg_advisory_unlock(hashtext(?))";
+
+    private final Connection connection;
+    private final String name;
+
+    private AdvisoryLock(Connection connection, String name) {
+        this.connection = connection;
+        this.name = name;
+    }
+
+    public static AdvisoryLock tryAcquire(DataSource dataSource, String name) {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            if (query(connection, TRY_LOCK, name)) return new AdvisoryLock(connection, name);
+
+            connection.close();
+            return null;
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new UncategorizedSQLException("Acquire advisory lock " + name, TRY_LOCK, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            query(connection, UNLOCK, name);
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Release advisory lock " + name, UNLOCK, e);
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    private static boolean query(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) return;
+
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.userserv.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BloomFilter {
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray bits;
+    private final LongAdder setBits = new LongAdder();
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException("Invalid Bloom filter parameters");
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate)
+                / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(byte[] key) {
+        long h1 = hash(key, 0);
+        long h2 = hash(key, SEED);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) break;
+            } while (!bits.compareAndSet(word, current, current | mask));
+            if ((current & mask) == 0) setBits.increment();
+        }
+    }
+
+    public boolean mightContain(byte[] key) {
+        long h1 = hash(key, 0);
+        long h2 = hash(key, SEED);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.sum() / bitCount, hashCount);
+    }
+
+    private static long hash(byte[] key, long seed) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        for (byte b : key) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.userserv.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.userserv.repository.KeyStreamRepository;
+import org.example.userserv.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import java.util.function.Consumer;
+
+@Component
+public class CardNumberFilter extends UniquenessFilter {
+    public static final String NAME = "cards";
+    private final KeyStreamRepository keyStreamRepository;
+    private final ShardRouter shardRouter;
+
+    public CardNumberFilter(KeyStreamRepository keyStreamRepository, ShardRouter shardRouter,
+                            StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+                            @Value("${uniqueness-filter.cards.expected-insertions:10000000}") long expectedInsertions,
+                            @Value("${uniqueness-filter.cards.false-positive-rate:0.01}") double falsePositiveRate) {
+        super(NAME, expectedInsertions, falsePositiveRate, redisTemplate, meterRegistry);
+        this.keyStreamRepository = keyStreamRepository;
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    protected long loadKeys(Consumer<byte[]> consumer) {
+        return shardRouter.forEachShard(() -> keyStreamRepository.forEachCardNumberHash(consumer));
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.userserv.util;
+
+import org.example.userserv.exception.InvalidSecurityParametersException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+@Component
+public class CardNumberHasher {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int HASH_LENGTH = 16;
+
+    private final ThreadLocal<Mac> mac;
+
+    public CardNumberHasher(@Value("${CARD_NUMBER_HASH_KEY}") String hashKey) {
+        SecretKeySpec key = new SecretKeySpec(Base64.getDecoder().decode(hashKey), ALGORITHM);
+        createMac(key);
+        this.mac = ThreadLocal.withInitial(() -> createMac(key));
+    }
+
+    public byte[] hash(String number) {
+        return Arrays.copyOf(mac.get().doFinal(number.getBytes(StandardCharsets.UTF_8)), HASH_LENGTH);
+    }
+
+    private static Mac createMac(SecretKeySpec key) {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new InvalidSecurityParametersException(e.getMessage());
+        }
+    }
+}
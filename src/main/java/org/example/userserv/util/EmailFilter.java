@@ -0,0 +1,45 @@
+package org.example.userserv.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.userserv.repository.KeyStreamRepository;
+import org.example.userserv.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+@Component
+public class EmailFilter extends UniquenessFilter {
+    public static final String NAME = "emails";
+    private final KeyStreamRepository keyStreamRepository;
+    private final ShardRouter shardRouter;
+
+    public EmailFilter(KeyStreamRepository keyStreamRepository, ShardRouter shardRouter,
+                       StringRedisTemplate redisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${uniqueness-filter.emails.expected-insertions:10000000}") long expectedInsertions,
+                       @Value("${uniqueness-filter.emails.false-positive-rate:0.01}") double falsePositiveRate) {
+        super(NAME, expectedInsertions, falsePositiveRate, redisTemplate, meterRegistry);
+        this.keyStreamRepository = keyStreamRepository;
+        this.shardRouter = shardRouter;
+    }
+
+    public boolean mightContain(String email) {
+        return mightContain(key(email));
+    }
+
+    public void put(String email) {
+        put(key(email));
+    }
+
+    @Override
+    protected long loadKeys(Consumer<byte[]> consumer) {
+        return shardRouter.forEachShard(
+                () -> keyStreamRepository.forEachEmail(email -> consumer.accept(key(email))));
+    }
+
+    public static byte[] key(String email) {
+        return EmailUtil.normalize(email).getBytes(StandardCharsets.UTF_8);
+    }
+}
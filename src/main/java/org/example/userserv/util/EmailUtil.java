@@ -0,0 +1,12 @@
+package org.example.userserv.util;
+
+import java.util.Locale;
+
+public final class EmailUtil {
+    private EmailUtil() {
+    }
+
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
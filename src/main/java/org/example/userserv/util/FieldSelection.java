@@ -0,0 +1,28 @@
+package org.example.userserv.util;
+
+import org.example.userserv.exception.InvalidRequestParameterException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public record FieldSelection(Set<String> names) {
+    public static final Set<String> USER_FIELDS = Set.of("id", "name", "surname", "birthDate", "email", "cards");
+    public static final Set<String> CARD_FIELDS = Set.of("id", "number", "holder", "expirationDate", "userId");
+
+    public static FieldSelection parse(String fields, Set<String> allowed) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) continue;
+            if (!allowed.contains(name)) throw new InvalidRequestParameterException("Unknown field '" + name + "'");
+
+            names.add(name);
+        }
+        if (names.isEmpty()) throw new InvalidRequestParameterException("Fields can't be empty");
+
+        return new FieldSelection(Set.copyOf(names));
+    }
+
+    public boolean includes(String name) {
+        return names.contains(name);
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.userserv.util;
 
 import jakarta.validation.ConstraintViolationException;
+import org.example.userserv.exception.BatchTooLargeException;
 import org.example.userserv.exception.CardNotFoundException;
 import org.example.userserv.exception.ErrorResponse;
+import org.example.userserv.exception.InvalidRequestParameterException;
 import org.example.userserv.exception.InvalidSecurityParametersException;
 import org.example.userserv.exception.UserNotFoundException;
 import org.example.userserv.exception.ValueAlreadyExistsException;
@@ -72,6 +74,22 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
     }
 
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBatchTooLargeException(BatchTooLargeException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE,
+                "Batch too large", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
+    }
+
+    @ExceptionHandler(InvalidRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestParameter(InvalidRequestParameterException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST,
+                "Invalid request parameters", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
         ErrorResponse errorResponse = new ErrorResponse(HttpStatus.FORBIDDEN,
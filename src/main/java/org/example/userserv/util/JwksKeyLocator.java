@@ -0,0 +1,93 @@
+package org.example.userserv.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import lombok.extern.slf4j.Slf4j;
+import org.example.userserv.exception.InvalidSecurityParametersException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class JwksKeyLocator extends LocatorAdapter<Key> {
+    private final Path jwksFile;
+    private final PublicKey defaultKey;
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile FileTime loadedModifiedTime;
+
+    public JwksKeyLocator(@Value("${jwt.jwks-file:}") String jwksFile, @Value("${PUBLIC_KEY:}") String publicKey) {
+        this.jwksFile = jwksFile.isBlank() ? null : Path.of(jwksFile);
+        this.defaultKey = publicKey.isBlank() ? null : decodePublicKey(publicKey);
+
+        if (this.jwksFile != null) {
+            try {
+                reload();
+            } catch (IOException | RuntimeException e) {
+                throw new InvalidSecurityParametersException("Failed to load JWKS: " + e.getMessage());
+            }
+        }
+        if (defaultKey == null && keys.isEmpty())
+            throw new InvalidSecurityParametersException("No JWT verification keys configured");
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        PublicKey key = keyId != null ? keys.get(keyId) : null;
+
+        return key != null ? key : defaultKey;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.jwks-reload-interval:30000}")
+    public void reloadIfChanged() {
+        if (jwksFile == null) return;
+
+        try {
+            if (!Files.getLastModifiedTime(jwksFile).equals(loadedModifiedTime)) reload();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to reload JWKS from {}, keeping {} previous keys: {}", jwksFile, keys.size(),
+                    e.getMessage());
+        }
+    }
+
+    int size() {
+        return keys.size();
+    }
+
+    private void reload() throws IOException {
+        FileTime modifiedTime = Files.getLastModifiedTime(jwksFile);
+        Map<String, PublicKey> loaded = new HashMap<>();
+        for (Jwk<?> jwk : Jwks.setParser().build().parse(Files.readString(jwksFile)).getKeys()) {
+            if (jwk.getId() != null && jwk.toKey() instanceof PublicKey key) loaded.put(jwk.getId(), key);
+        }
+
+        keys = Map.copyOf(loaded);
+        loadedModifiedTime = modifiedTime;
+        log.info("Loaded {} JWT verification keys from {}", loaded.size(), jwksFile);
+    }
+
+    private static PublicKey decodePublicKey(String publicKey) {
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey)));
+        } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+            throw new InvalidSecurityParametersException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.userserv.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class NdjsonWriter {
+    private final ObjectMapper objectMapper;
+
+    public <T> StreamingResponseBody write(Consumer<Consumer<List<T>>> source) {
+        return out -> source.accept(chunk -> writeChunk(out, chunk));
+    }
+
+    private <T> void writeChunk(OutputStream out, List<T> chunk) {
+        try {
+            for (T item : chunk) {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,54 +2,70 @@ package org.example.userserv.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import org.example.userserv.exception.InvalidSecurityParametersException;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import java.security.KeyFactory;
-import java.security.NoSuchAlgorithmException;
-import java.security.PublicKey;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.X509EncodedKeySpec;
-import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class SecurityUtil {
-    private final PublicKey publicKey;
+    private final JwtParser parser;
 
-    public SecurityUtil(@Value("${PUBLIC_KEY}") String pbKey) {
+    public SecurityUtil(JwksKeyLocator keyLocator) {
+        parser = Jwts.parser()
+                .keyLocator(keyLocator)
+                .build();
+    }
+
+    public boolean validateToken(String token){
+        return parseUserId(token).isPresent();
+    }
+
+    public Optional<UUID> parseUserId(String token) {
         try {
-            publicKey = KeyFactory.getInstance("RSA").generatePublic(
-                    new X509EncodedKeySpec(Base64.getDecoder().decode(pbKey)));
-        } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
-            throw new InvalidSecurityParametersException(e.getMessage());
+            return Optional.of(getUserIdFromToken(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
-    public boolean validateToken(String token){
+    public Optional<Authentication> parseAuthentication(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(publicKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+
+            return Optional.of(
+                    new UsernamePasswordAuthenticationToken(getUserId(claims), null, getAuthorities(claims)));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
     public UUID getUserIdFromToken(String token){
-        Claims claims = Jwts.parser()
-                .verifyWith(publicKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return getUserId(parser.parseSignedClaims(token).getPayload());
+    }
+
+    private UUID getUserId(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        if (userId == null) throw new IllegalArgumentException("Token has no userId claim");
+
+        return UUID.fromString(userId);
+    }
+
+    private List<GrantedAuthority> getAuthorities(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+        if (roles == null) return List.of();
 
-        return UUID.fromString(claims.get("userId", String.class));
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
     }
 
     public UUID getCurrentUserId() {
@@ -0,0 +1,55 @@
+package org.example.userserv.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.dto.UserProfileResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SparseFieldsWriter {
+    private static final String USER_FILTER = "user-fields";
+    private static final String CARD_FILTER = "card-fields";
+    private final ObjectMapper mapper;
+
+    public SparseFieldsWriter(ObjectMapper objectMapper) {
+        mapper = objectMapper.copy();
+        mapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+            @Override
+            public Object findFilterId(Annotated annotated) {
+                if (annotated instanceof AnnotatedClass type) {
+                    if (UserProfileResponse.class.isAssignableFrom(type.getRawType())) return USER_FILTER;
+                    if (CardResponse.class.isAssignableFrom(type.getRawType())) return CARD_FILTER;
+                }
+
+                return super.findFilterId(annotated);
+            }
+        });
+    }
+
+    public byte[] writeUsers(Object value, FieldSelection fields) {
+        return write(value, new SimpleFilterProvider()
+                .addFilter(USER_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields.names()))
+                .addFilter(CARD_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    public byte[] writeCards(Object value, FieldSelection fields) {
+        return write(value, new SimpleFilterProvider()
+                .addFilter(USER_FILTER, SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(CARD_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields.names())));
+    }
+
+    private byte[] write(Object value, FilterProvider filters) {
+        try {
+            return mapper.writer(filters).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+    }
+}
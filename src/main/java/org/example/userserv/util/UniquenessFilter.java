@@ -0,0 +1,100 @@
+package org.example.userserv.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+@Slf4j
+public abstract class UniquenessFilter implements AutoCloseable {
+    public static final String CHANNEL = "uniqueness-filter-updates";
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final ExecutorService publisher = Executors.newVirtualThreadPerTaskExecutor();
+    private final String name;
+    private final BloomFilter filter;
+    private final StringRedisTemplate redisTemplate;
+    private final Counter negativeChecks;
+    private final Counter positiveChecks;
+    private volatile boolean ready;
+
+    protected UniquenessFilter(String name, long expectedInsertions, double falsePositiveRate,
+                               StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.redisTemplate = redisTemplate;
+        this.negativeChecks = Counter.builder("uniqueness.filter.checks")
+                .tag("filter", name).tag("result", "negative").register(meterRegistry);
+        this.positiveChecks = Counter.builder("uniqueness.filter.checks")
+                .tag("filter", name).tag("result", "positive").register(meterRegistry);
+
+        Gauge.builder("uniqueness.filter.bits", filter, BloomFilter::bitCount)
+                .tag("filter", name).register(meterRegistry);
+        Gauge.builder("uniqueness.filter.hash.functions", filter, BloomFilter::hashCount)
+                .tag("filter", name).register(meterRegistry);
+        Gauge.builder("uniqueness.filter.false.positive.rate", filter, BloomFilter::expectedFalsePositiveRate)
+                .tag("filter", name).register(meterRegistry);
+        Gauge.builder("uniqueness.filter.ready", this, f -> f.ready ? 1 : 0)
+                .tag("filter", name).register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean mightContain(byte[] key) {
+        if (!ready) return true;
+
+        boolean result = filter.mightContain(key);
+        (result ? positiveChecks : negativeChecks).increment();
+        return result;
+    }
+
+    public void put(byte[] key) {
+        filter.put(key);
+
+        String message = updateMessage(name, key);
+        try {
+            publisher.execute(() -> {
+                try {
+                    redisTemplate.convertAndSend(CHANNEL, message);
+                } catch (RuntimeException e) {
+                    log.debug("Failed to publish {} filter update: {}", name, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipped {} filter update publish during shutdown", name);
+        }
+    }
+
+    public static String updateMessage(String filterName, byte[] key) {
+        return filterName + ":" + HEX.formatHex(key);
+    }
+
+    public void putRemote(String hexKey) {
+        filter.put(HEX.parseHex(hexKey));
+    }
+
+    public void load() {
+        try {
+            long loaded = loadKeys(filter::put);
+            ready = true;
+            log.info("Uniqueness filter '{}' loaded {} keys", name, loaded);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load uniqueness filter '{}', checks will hit the database", name, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        publisher.close();
+    }
+
+    protected abstract long loadKeys(Consumer<byte[]> consumer);
+}
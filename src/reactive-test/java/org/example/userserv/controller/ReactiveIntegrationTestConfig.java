@@ -0,0 +1,32 @@
+package org.example.userserv.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.userserv.entity.User;
+import org.example.userserv.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import javax.sql.DataSource;
+
+@TestConfiguration(proxyBeanMethods = false)
+@EntityScan(basePackageClasses = User.class)
+@EnableJpaRepositories(basePackageClasses = UserRepository.class)
+class ReactiveIntegrationTestConfig {
+
+    @Bean
+    DataSource dataSource(@Value("${spring.datasource.url}") String url,
+                          @Value("${spring.datasource.username}") String username,
+                          @Value("${spring.datasource.password}") String password) {
+        return DataSourceBuilder.create().url(url).username(username).password(password).build();
+    }
+
+    @Bean
+    PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
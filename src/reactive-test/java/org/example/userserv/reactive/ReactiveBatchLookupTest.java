@@ -0,0 +1,53 @@
+package org.example.userserv.reactive;
+
+import org.example.userserv.exception.BatchTooLargeException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveBatchLookupTest {
+    private final ReactiveBatchLookup batchLookup = new ReactiveBatchLookup(3, 2, 10);
+
+    @Test
+    void testLoadKeepsRequestOrderAcrossChunks() {
+        List<Integer> ids = List.of(7, 3, 9, 1, 3, 5, 8);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Integer> loaded = batchLookup.load(ids, chunk -> {
+            calls.incrementAndGet();
+            List<Integer> reversed = new ArrayList<>(chunk);
+            Collections.reverse(reversed);
+            return Flux.fromIterable(reversed);
+        }, id -> id).collectList().block();
+
+        assertEquals(List.of(7, 3, 9, 1, 5, 8), loaded);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testLoadSkipsMissingIds() {
+        List<Integer> loaded = batchLookup.load(List.of(1, 2, 3, 4),
+                chunk -> Flux.fromIterable(chunk).filter(id -> id % 2 == 0), id -> id).collectList().block();
+
+        assertEquals(List.of(2, 4), loaded);
+    }
+
+    @Test
+    void testLoadRejectsTooManyIds() {
+        List<Integer> ids = IntStream.range(0, 11).boxed().toList();
+
+        assertThrows(BatchTooLargeException.class,
+                () -> batchLookup.load(ids, Flux::fromIterable, id -> id).blockLast());
+    }
+
+    @Test
+    void testLoadEmptyIds() {
+        assertEquals(List.of(), batchLookup.load(List.<Integer>of(), Flux::fromIterable, id -> id)
+                .collectList().block());
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.userserv.reactive;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Table("cards")
+@Data
+public class CardRecord {
+
+    @Id
+    private Long id;
+
+    private String number;
+
+    private byte[] numberHash;
+
+    private String holder;
+
+    private LocalDate expirationDate;
+
+    private UUID userId;
+}
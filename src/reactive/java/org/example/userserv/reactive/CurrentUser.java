@@ -0,0 +1,28 @@
+package org.example.userserv.reactive;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+import java.util.UUID;
+
+final class CurrentUser {
+
+    private CurrentUser() {
+    }
+
+    static Mono<UUID> id() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .map(Authentication::getPrincipal)
+                .ofType(UUID.class)
+                .switchIfEmpty(Mono.error(() -> new AccessDeniedException("Access denied")));
+    }
+
+    static Mono<UUID> require(UUID userId) {
+        return id().filter(userId::equals)
+                .switchIfEmpty(Mono.error(() -> new AccessDeniedException("Access denied")));
+    }
+}
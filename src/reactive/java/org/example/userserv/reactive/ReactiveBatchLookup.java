@@ -0,0 +1,36 @@
+package org.example.userserv.reactive;
+
+import org.example.userserv.exception.BatchTooLargeException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+@Component
+public class ReactiveBatchLookup {
+    private final int chunkSize;
+    private final int concurrency;
+    private final int maxIds;
+
+    public ReactiveBatchLookup(@Value("${batch-lookup.chunk-size:500}") int chunkSize,
+                               @Value("${batch-lookup.max-concurrency-per-request:4}") int concurrency,
+                               @Value("${batch-lookup.max-ids:5000}") int maxIds) {
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+        this.maxIds = maxIds;
+    }
+
+    public <I, R> Flux<R> load(List<I> ids, Function<List<I>, Flux<R>> loader, Function<R, I> idOf) {
+        if (ids == null || ids.isEmpty()) return Flux.empty();
+        if (ids.size() > maxIds) return Flux.error(new BatchTooLargeException(ids.size(), maxIds));
+
+        return Flux.fromStream(ids.stream().distinct())
+                .buffer(chunkSize)
+                .flatMapSequential(chunk -> loader.apply(chunk)
+                        .collectMap(idOf)
+                        .flatMapIterable(byId -> chunk.stream().map(byId::get).filter(Objects::nonNull).toList()),
+                        concurrency);
+    }
+}
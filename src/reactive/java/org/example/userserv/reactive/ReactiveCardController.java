@@ -0,0 +1,83 @@
+package org.example.userserv.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.dto.CardRequest;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.util.FieldSelection;
+import org.example.userserv.util.SparseFieldsWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/cards")
+@RequiredArgsConstructor
+public class ReactiveCardController {
+    private final ReactiveCardService cardService;
+    private final SparseFieldsWriter sparseFieldsWriter;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CardResponse>> getCardById(@PathVariable("id") long id) {
+        return cardService.findById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public Mono<ResponseEntity<byte[]>> getCardFieldsById(@PathVariable("id") long id,
+                                                          @RequestParam("fields") String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.CARD_FIELDS);
+
+        return cardService.findById(id).map(card -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sparseFieldsWriter.writeCards(card, selection)));
+    }
+
+    @PostMapping("/ids")
+    public Flux<CardResponse> getCardsByIds(@RequestBody List<Long> ids) {
+        return cardService.findByIds(ids);
+    }
+
+    @PostMapping(value = "/ids", params = "fields")
+    public Mono<ResponseEntity<byte[]>> getCardFieldsByIds(@RequestBody List<Long> ids,
+                                                           @RequestParam("fields") String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.CARD_FIELDS);
+
+        return cardService.findByIds(ids).collectList().map(cards -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sparseFieldsWriter.writeCards(cards, selection)));
+    }
+
+    @PostMapping(value = "/ids", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CardResponse> streamCardsByIds(@RequestBody List<Long> ids) {
+        return cardService.findByIds(ids);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<CardResponse>> createCard(
+            @RequestBody @Validated(CardRequest.CreateValidation.class) CardRequest cardRequest) {
+        return cardService.create(cardRequest).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<CardResponse>> updateCard(@PathVariable("id") long id,
+                                                         @RequestBody @Validated(CardRequest.UpdateValidation.class)
+                                                         CardRequest cardRequest) {
+        return cardService.update(id, cardRequest).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteCard(@PathVariable("id") long id) {
+        return cardService.delete(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.userserv.reactive;
+
+import org.example.userserv.dto.CardResponse;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface ReactiveCardRepository extends R2dbcRepository<CardRecord, Long> {
+    String SELECT_CARD_RESPONSE = "select id, number, holder, expiration_date, user_id from cards ";
+
+    @Query(SELECT_CARD_RESPONSE + "where id = :id")
+    Mono<CardResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_CARD_RESPONSE + "where id in (:ids)")
+    Flux<CardResponse> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    Mono<Boolean> existsByNumberHash(byte[] numberHash);
+
+    @Query("select id from cards where user_id = :userId")
+    Flux<Long> findIdsByUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,120 @@
+package org.example.userserv.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.dto.CardRequest;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.exception.CardNotFoundException;
+import org.example.userserv.exception.UserNotFoundException;
+import org.example.userserv.exception.ValueAlreadyExistsException;
+import org.example.userserv.util.CardNumberHasher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveCardService {
+    private static final String CACHE_USERS = "users";
+    private static final String CACHE_CARDS = "cards";
+    private final ReactiveCardRepository cardRepository;
+    private final ReactiveUserRepository userRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final RecordMapper recordMapper;
+    private final CardNumberHasher cardNumberHasher;
+    private final ReactiveResponseCache cache;
+    private final ReactiveBatchLookup batchLookup;
+    private final ReactiveUniquenessPublisher uniquenessPublisher;
+
+    public Mono<CardResponse> create(CardRequest cardRequest) {
+        byte[] numberHash = cardNumberHasher.hash(cardRequest.getNumber());
+
+        return CurrentUser.require(cardRequest.getUserId())
+                .then(cardRepository.existsByNumberHash(numberHash))
+                .flatMap(taken -> taken
+                        ? Mono.<String>error(new ValueAlreadyExistsException("number", cardRequest.getNumber()))
+                        : userRepository.findEmailById(cardRequest.getUserId()))
+                .switchIfEmpty(Mono.error(UserNotFoundException::new))
+                .flatMap(email -> {
+                    CardRecord card = recordMapper.toRecord(cardRequest);
+                    card.setNumberHash(numberHash);
+                    return cardRepository.save(card)
+                            .flatMap(saved -> evictOwner(saved.getUserId(), email).thenReturn(saved));
+                })
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new ValueAlreadyExistsException("number", cardRequest.getNumber()))
+                .flatMap(saved -> uniquenessPublisher.publishCardNumber(numberHash).thenReturn(saved))
+                .map(recordMapper::toResponse);
+    }
+
+    public Mono<CardResponse> findById(Long id) {
+        return cache.get(CACHE_CARDS, id, CardResponse.class,
+                        cardRepository.findResponseById(id).switchIfEmpty(Mono.error(CardNotFoundException::new)))
+                .flatMap(card -> CurrentUser.require(card.getUserId()).thenReturn(card));
+    }
+
+    public Flux<CardResponse> findByIds(List<Long> ids) {
+        return batchLookup.load(ids, cardRepository::findResponsesByIds, CardResponse::getId);
+    }
+
+    public Mono<CardResponse> update(Long id, CardRequest cardRequest) {
+        return findOwnedCard(id)
+                .flatMap(card -> updateCardFields(card, cardRequest))
+                .flatMap(cardRepository::save)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new ValueAlreadyExistsException("number", cardRequest.getNumber()))
+                .flatMap(saved -> userRepository.findEmailById(saved.getUserId())
+                        .flatMap(email -> evictOwner(saved.getUserId(), email))
+                        .thenReturn(recordMapper.toResponse(saved)))
+                .as(transactionalOperator::transactional)
+                .flatMap(response -> cache.put(CACHE_CARDS, id, response)
+                        .then(cardRequest.getNumber() != null
+                                ? uniquenessPublisher.publishCardNumber(cardNumberHasher.hash(response.getNumber()))
+                                : Mono.empty())
+                        .thenReturn(response));
+    }
+
+    private Mono<CardRecord> updateCardFields(CardRecord card, CardRequest cardRequest) {
+        if (cardRequest.getHolder() != null) {
+            card.setHolder(cardRequest.getHolder());
+        }
+        if (cardRequest.getExpirationDate() != null) {
+            card.setExpirationDate(cardRequest.getExpirationDate());
+        }
+        if (cardRequest.getNumber() == null || cardRequest.getNumber().equals(card.getNumber())) {
+            return Mono.just(card);
+        }
+
+        byte[] numberHash = cardNumberHasher.hash(cardRequest.getNumber());
+        return cardRepository.existsByNumberHash(numberHash).flatMap(taken -> {
+            if (taken) return Mono.error(new ValueAlreadyExistsException("number", cardRequest.getNumber()));
+
+            card.setNumber(cardRequest.getNumber());
+            card.setNumberHash(numberHash);
+            return Mono.just(card);
+        });
+    }
+
+    public Mono<Void> delete(Long id) {
+        return findOwnedCard(id)
+                .flatMap(card -> userRepository.findEmailById(card.getUserId())
+                        .flatMap(email -> evictOwner(card.getUserId(), email))
+                        .then(cardRepository.deleteById(id)))
+                .as(transactionalOperator::transactional)
+                .then(cache.evict(CACHE_CARDS, id));
+    }
+
+    private Mono<CardRecord> findOwnedCard(Long id) {
+        return cardRepository.findById(id)
+                .switchIfEmpty(Mono.error(CardNotFoundException::new))
+                .flatMap(card -> CurrentUser.require(card.getUserId()).thenReturn(card));
+    }
+
+    private Mono<Void> evictOwner(UUID userId, String email) {
+        return cache.evict(CACHE_USERS, userId, email)
+                .then(cache.invalidateCardPages(userId));
+    }
+}
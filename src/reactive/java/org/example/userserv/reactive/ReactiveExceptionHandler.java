@@ -0,0 +1,33 @@
+package org.example.userserv.reactive;
+
+import org.example.userserv.exception.ErrorResponse;
+import org.example.userserv.util.GlobalExceptionHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import java.util.stream.Collectors;
+
+@RestControllerAdvice
+public class ReactiveExceptionHandler extends GlobalExceptionHandler {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleBindException(WebExchangeBindException ex) {
+        String error = ex.getBindingResult().getFieldErrors().stream().map(e ->
+                e.getField() + ": " + e.getDefaultMessage()).collect(Collectors.joining("; "));
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST,
+                "Validation failed", error);
+
+        return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException ex) {
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        ErrorResponse errorResponse = new ErrorResponse(status, status.getReasonPhrase(), ex.getReason());
+
+        return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.userserv.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.util.SecurityUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import java.util.Collections;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ReactiveJwtFilter implements WebFilter {
+    private final SecurityUtil securityUtil;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = getToken(exchange.getRequest());
+        if (token == null) return chain.filter(exchange);
+
+        return securityUtil.parseUserId(token)
+                .map(userId -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication(userId))))
+                .orElseGet(() -> chain.filter(exchange));
+    }
+
+    private String getToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (bearerToken != null && bearerToken.startsWith("Bearer "))
+            return bearerToken.substring(7);
+
+        return null;
+    }
+
+    private UsernamePasswordAuthenticationToken authentication(UUID userId) {
+        return new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+    }
+}
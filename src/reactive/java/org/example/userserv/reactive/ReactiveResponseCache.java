@@ -0,0 +1,147 @@
+package org.example.userserv.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.example.userserv.cache.CacheCircuitBreaker;
+import org.example.userserv.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class ReactiveResponseCache {
+    private static final String CACHE_CARD_PAGE_GENERATIONS = "card-page-generations";
+    private static final List<String> CACHES = List.of("users", "user-profiles", "user-responses", "cards",
+            "card-pages", CACHE_CARD_PAGE_GENERATIONS);
+
+    private final ReactiveRedisTemplate<String, byte[]> redisTemplate;
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final CacheCircuitBreaker circuitBreaker;
+    private final Duration ttl;
+    private final Duration generationTtl;
+
+    public ReactiveResponseCache(ReactiveRedisConnectionFactory connectionFactory,
+                                 @Value("${cache.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                 @Value("${cache.circuit-breaker.slow-call-threshold:100ms}")
+                                 Duration slowCallThreshold,
+                                 @Value("${cache.ttl.min:5m}") Duration ttl,
+                                 @Value("${cache.ttl.max:6h}") Duration generationTtl) {
+        this.redisTemplate = new ReactiveRedisTemplate<>(connectionFactory, RedisSerializationContext
+                .<String, byte[]>newSerializationContext(RedisSerializer.string())
+                .value(RedisSerializer.byteArray())
+                .build());
+        this.circuitBreaker = new CacheCircuitBreaker(failureThreshold, slowCallThreshold);
+        this.ttl = ttl;
+        this.generationTtl = generationTtl;
+    }
+
+    public <T> Mono<T> get(String cacheName, Object key, Class<T> type, Mono<T> loader) {
+        Mono<T> cached = Mono.defer(() -> circuitBreaker.isOpen() ? Mono.empty()
+                : guarded(redisTemplate.opsForValue().get(key(cacheName, key)).map(value -> read(value, type))));
+
+        return cached.switchIfEmpty(loader.flatMap(value -> put(cacheName, key, value).thenReturn(value)));
+    }
+
+    public Mono<Void> put(String cacheName, Object key, Object value) {
+        return evictDependents(cacheName, List.of(key))
+                .then(write(Mono.fromCallable(() -> mapper.writeValueAsBytes(value))
+                        .flatMap(bytes -> redisTemplate.opsForValue().set(key(cacheName, key), bytes, ttl))));
+    }
+
+    public Mono<Void> evict(String cacheName, Object... keys) {
+        if (keys.length == 0) return Mono.empty();
+
+        return evictDependents(cacheName, List.of(keys))
+                .then(delete(cacheName, List.of(keys)));
+    }
+
+    public Mono<Void> invalidateCardPages(UUID userId) {
+        byte[] generation = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+        return write(redisTemplate.opsForValue().set(key(CACHE_CARD_PAGE_GENERATIONS, userId), generation,
+                generationTtl));
+    }
+
+    @Scheduled(fixedDelayString = "${cache.circuit-breaker.probe-interval:5000}")
+    public void probe() {
+        if (!circuitBreaker.isOpen()) return;
+
+        try {
+            redisTemplate.getConnectionFactory().getReactiveConnection().ping().block();
+            if (circuitBreaker.resetDroppedWrites()) clear().block();
+        } catch (RuntimeException e) {
+            circuitBreaker.recordDroppedWrite();
+            log.debug("Redis is still unavailable: {}", e.getMessage());
+            return;
+        }
+
+        circuitBreaker.close();
+        log.info("Redis is reachable again, cache circuit closed");
+    }
+
+    private Mono<Void> clear() {
+        return Flux.fromIterable(CACHES)
+                .concatMap(cacheName -> redisTemplate.delete(redisTemplate.scan(
+                        ScanOptions.scanOptions().match(cacheName + "::*").build())))
+                .then();
+    }
+
+    private Mono<Void> evictDependents(String cacheName, List<Object> keys) {
+        return Flux.fromIterable(CacheConfig.DEPENDENT_CACHES.getOrDefault(cacheName, List.of()))
+                .concatMap(dependent -> delete(dependent, keys))
+                .then();
+    }
+
+    private Mono<Void> delete(String cacheName, List<Object> keys) {
+        return write(redisTemplate.delete(Flux.fromIterable(keys).map(key -> key(cacheName, key))));
+    }
+
+    private <T> Mono<T> guarded(Mono<T> operation) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return operation.doOnSuccess(result -> circuitBreaker.recordSuccess(System.nanoTime() - start));
+        }).onErrorResume(e -> {
+            circuitBreaker.recordFailure();
+            return Mono.empty();
+        });
+    }
+
+    private Mono<Void> write(Mono<?> operation) {
+        return Mono.defer(() -> {
+            if (circuitBreaker.isOpen()) {
+                circuitBreaker.recordDroppedWrite();
+                return Mono.empty();
+            }
+
+            return guarded(operation)
+                    .switchIfEmpty(Mono.fromRunnable(circuitBreaker::recordDroppedWrite))
+                    .then();
+        });
+    }
+
+    private <T> T read(byte[] value, Class<T> type) {
+        try {
+            return mapper.readValue(value, type);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable cache entry", e);
+        }
+    }
+
+    private static String key(String cacheName, Object key) {
+        return cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.userserv.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.config.OperationalEndpoints;
+import org.example.userserv.exception.ErrorResponse;
+import org.example.userserv.util.SecurityUtil;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+    private final SecurityUtil securityUtil;
+    private final ObjectMapper mapper;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(e -> e.authenticationEntryPoint(this::unauthorized))
+                .authorizeExchange(auth -> auth
+                        .pathMatchers(OperationalEndpoints.PATTERNS.toArray(String[]::new)).permitAll()
+                        .anyExchange().authenticated())
+                .addFilterAt(new ReactiveJwtFilter(securityUtil), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private Mono<Void> unauthorized(ServerWebExchange exchange, AuthenticationException authException) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        ErrorResponse error = new ErrorResponse(HttpStatus.UNAUTHORIZED, "Unauthorized",
+                authException.getMessage());
+
+        return Mono.fromCallable(() -> response.bufferFactory().wrap(mapper.writeValueAsBytes(error)))
+                .flatMap(buffer -> response.writeWith(Mono.just(buffer)));
+    }
+}
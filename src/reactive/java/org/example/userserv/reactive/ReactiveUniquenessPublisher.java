@@ -0,0 +1,34 @@
+package org.example.userserv.reactive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.userserv.util.CardNumberFilter;
+import org.example.userserv.util.EmailFilter;
+import org.example.userserv.util.UniquenessFilter;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveUniquenessPublisher {
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public Mono<Void> publishEmail(String email) {
+        return publish(EmailFilter.NAME, EmailFilter.key(email));
+    }
+
+    public Mono<Void> publishCardNumber(byte[] numberHash) {
+        return publish(CardNumberFilter.NAME, numberHash);
+    }
+
+    private Mono<Void> publish(String filterName, byte[] key) {
+        return redisTemplate.convertAndSend(UniquenessFilter.CHANNEL, UniquenessFilter.updateMessage(filterName, key))
+                .onErrorResume(e -> {
+                    log.debug("Failed to publish {} filter update: {}", filterName, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
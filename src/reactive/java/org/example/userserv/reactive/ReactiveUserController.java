@@ -0,0 +1,124 @@
+package org.example.userserv.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.dto.UserProfileResponse;
+import org.example.userserv.dto.UserRequest;
+import org.example.userserv.dto.UserResponse;
+import org.example.userserv.util.EmailUtil;
+import org.example.userserv.util.FieldSelection;
+import org.example.userserv.util.SparseFieldsWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1/users")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+    private final ReactiveUserService userService;
+    private final SparseFieldsWriter sparseFieldsWriter;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserProfileResponse>> getUserById(
+            @PathVariable("id") UUID id,
+            @RequestParam(value = "cards", defaultValue = "true") boolean includeCards) {
+        Mono<UserProfileResponse> user = includeCards
+                ? userService.findById(id).cast(UserProfileResponse.class)
+                : userService.findProfileById(id);
+
+        return user.map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public Mono<ResponseEntity<byte[]>> getUserFieldsById(@PathVariable("id") UUID id,
+                                                          @RequestParam("fields") String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.USER_FIELDS);
+        Mono<UserProfileResponse> user = selection.includes("cards")
+                ? userService.findById(id).cast(UserProfileResponse.class)
+                : userService.findProfileById(id);
+
+        return user.map(u -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sparseFieldsWriter.writeUsers(u, selection)));
+    }
+
+    @PostMapping("/ids")
+    public Flux<UserResponse> getUsersByIds(@RequestBody List<UUID> ids) {
+        return userService.findByIds(ids);
+    }
+
+    @PostMapping(value = "/ids", params = "fields")
+    public Mono<ResponseEntity<byte[]>> getUserFieldsByIds(@RequestBody List<UUID> ids,
+                                                           @RequestParam("fields") String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.USER_FIELDS);
+        Flux<? extends UserProfileResponse> users = selection.includes("cards")
+                ? userService.findByIds(ids)
+                : userService.findProfilesByIds(ids);
+
+        return users.collectList().map(list -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sparseFieldsWriter.writeUsers(list, selection)));
+    }
+
+    @PostMapping(value = "/ids", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserResponse> streamUsersByIds(@RequestBody List<UUID> ids) {
+        return userService.findByIds(ids);
+    }
+
+    @GetMapping("/email/{email}")
+    public Mono<ResponseEntity<UserProfileResponse>> getUserByEmail(
+            @PathVariable("email") String email,
+            @RequestParam(value = "cards", defaultValue = "true") boolean includeCards) {
+        String normalized = EmailUtil.normalize(email);
+        Mono<UserProfileResponse> user = includeCards
+                ? userService.findByEmail(normalized).cast(UserProfileResponse.class)
+                : userService.findProfileByEmail(normalized);
+
+        return user.map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/email/{email}", params = "fields")
+    public Mono<ResponseEntity<byte[]>> getUserFieldsByEmail(@PathVariable("email") String email,
+                                                             @RequestParam("fields") String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.USER_FIELDS);
+        String normalized = EmailUtil.normalize(email);
+        Mono<UserProfileResponse> user = selection.includes("cards")
+                ? userService.findByEmail(normalized).cast(UserProfileResponse.class)
+                : userService.findProfileByEmail(normalized);
+
+        return user.map(u -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sparseFieldsWriter.writeUsers(u, selection)));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<UserResponse>> createUser(
+            @RequestBody @Validated(UserRequest.CreateValidation.class) UserRequest userRequest) {
+        return userService.create(userRequest).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<UserResponse>> updateUser(@PathVariable("id") UUID id,
+                                                         @RequestBody @Validated(UserRequest.UpdateValidation.class)
+                                                         UserRequest userRequest) {
+        return userService.update(id, userRequest).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteUser(@PathVariable UUID id) {
+        return userService.delete(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
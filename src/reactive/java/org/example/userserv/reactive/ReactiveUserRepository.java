@@ -0,0 +1,47 @@
+package org.example.userserv.reactive;
+
+import org.example.userserv.dto.UserCardRow;
+import org.example.userserv.dto.UserProfileResponse;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface ReactiveUserRepository extends R2dbcRepository<UserRecord, UUID> {
+    String SELECT_USER_CARD_ROWS = "select u.id, u.name, u.surname, u.birth_date, u.email, c.id as card_id, " +
+            "c.number as card_number, c.holder as card_holder, c.expiration_date as card_expiration_date " +
+            "from users u left join cards c on c.user_id = u.id ";
+    String SELECT_USER_PROFILE = "select u.id, u.name, u.surname, u.birth_date, u.email from users u ";
+
+    @Query(SELECT_USER_CARD_ROWS + "where u.id = :id order by c.id")
+    Flux<UserCardRow> findRowsById(@Param("id") UUID id);
+
+    @Query(SELECT_USER_CARD_ROWS + "where u.id in (:ids) order by u.id, c.id")
+    Flux<UserCardRow> findRowsByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query(SELECT_USER_CARD_ROWS + "where lower(u.email) = :email order by c.id")
+    Flux<UserCardRow> findRowsByEmail(@Param("email") String email);
+
+    @Query(SELECT_USER_PROFILE + "where u.id = :id")
+    Mono<UserProfileResponse> findProfileById(@Param("id") UUID id);
+
+    @Query(SELECT_USER_PROFILE + "where u.id in (:ids)")
+    Flux<UserProfileResponse> findProfilesByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query(SELECT_USER_PROFILE + "where lower(u.email) = :email")
+    Mono<UserProfileResponse> findProfileByEmail(@Param("email") String email);
+
+    @Query("select email from users where id = :id")
+    Mono<String> findEmailById(@Param("id") UUID id);
+
+    @Query("select exists(select 1 from users where lower(email) = :email)")
+    Mono<Boolean> existsByEmail(@Param("email") String email);
+
+    @Modifying
+    @Query("delete from users where id = :id")
+    Mono<Integer> deleteUserById(@Param("id") UUID id);
+}
@@ -0,0 +1,33 @@
+package org.example.userserv.reactive;
+
+import org.example.userserv.mapper.UserMapper;
+import org.example.userserv.util.CardNumberHasher;
+import org.example.userserv.util.JwksKeyLocator;
+import org.example.userserv.util.SecurityUtil;
+import org.example.userserv.util.SparseFieldsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication(scanBasePackageClasses = {ReactiveUserServApplication.class, UserMapper.class})
+@EnableScheduling
+@Import({SecurityUtil.class, JwksKeyLocator.class, CardNumberHasher.class, SparseFieldsWriter.class})
+public class ReactiveUserServApplication {
+
+    public ReactiveUserServApplication(@Value("${sharding.enabled:false}") boolean shardingEnabled) {
+        if (shardingEnabled)
+            throw new IllegalStateException("The reactive runtime does not route through the shard directory; " +
+                    "run it only with sharding.enabled=false");
+    }
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveUserServApplication.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+
+        application.run(args);
+    }
+
+}
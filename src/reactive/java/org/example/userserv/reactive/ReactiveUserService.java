@@ -0,0 +1,149 @@
+package org.example.userserv.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.userserv.dto.UserCardRow;
+import org.example.userserv.dto.UserProfileResponse;
+import org.example.userserv.dto.UserRequest;
+import org.example.userserv.dto.UserResponse;
+import org.example.userserv.exception.UserNotFoundException;
+import org.example.userserv.exception.ValueAlreadyExistsException;
+import org.example.userserv.mapper.UserMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveUserService {
+    private static final String CACHE_USERS = "users";
+    private static final String CACHE_USER_PROFILES = "user-profiles";
+    private static final String CACHE_CARDS = "cards";
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveCardRepository cardRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final TransactionalOperator transactionalOperator;
+    private final UserMapper userMapper;
+    private final RecordMapper recordMapper;
+    private final ReactiveResponseCache cache;
+    private final ReactiveBatchLookup batchLookup;
+    private final ReactiveUniquenessPublisher uniquenessPublisher;
+
+    public Mono<UserResponse> create(UserRequest userRequest) {
+        return CurrentUser.id()
+                .flatMap(userId -> isEmailTaken(userRequest.getEmail())
+                        .flatMap(taken -> {
+                            if (taken)
+                                return Mono.error(new ValueAlreadyExistsException("email", userRequest.getEmail()));
+
+                            UserRecord user = recordMapper.toRecord(userRequest);
+                            user.setId(userId);
+                            return entityTemplate.insert(user);
+                        }))
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new ValueAlreadyExistsException("email", userRequest.getEmail()))
+                .flatMap(saved -> uniquenessPublisher.publishEmail(saved.getEmail()).thenReturn(saved))
+                .map(recordMapper::toResponse);
+    }
+
+    public Mono<UserResponse> findById(UUID id) {
+        return CurrentUser.require(id)
+                .then(cache.get(CACHE_USERS, id, UserResponse.class,
+                        toSingleResponse(userRepository.findRowsById(id))));
+    }
+
+    public Flux<UserResponse> findByIds(List<UUID> ids) {
+        return batchLookup.load(ids, this::loadUsers, UserResponse::getId);
+    }
+
+    public Flux<UserProfileResponse> findProfilesByIds(List<UUID> ids) {
+        return batchLookup.load(ids, userRepository::findProfilesByIds, UserProfileResponse::getId);
+    }
+
+    private Flux<UserResponse> loadUsers(List<UUID> ids) {
+        return userRepository.findRowsByIds(ids).collectList().flatMapIterable(userMapper::toResponses);
+    }
+
+    public Mono<UserResponse> findByEmail(String email) {
+        return cache.get(CACHE_USERS, email, UserResponse.class,
+                toSingleResponse(userRepository.findRowsByEmail(email)));
+    }
+
+    public Mono<UserProfileResponse> findProfileById(UUID id) {
+        return CurrentUser.require(id)
+                .then(cache.get(CACHE_USER_PROFILES, id, UserProfileResponse.class,
+                        userRepository.findProfileById(id).switchIfEmpty(Mono.error(UserNotFoundException::new))));
+    }
+
+    public Mono<UserProfileResponse> findProfileByEmail(String email) {
+        return cache.get(CACHE_USER_PROFILES, email, UserProfileResponse.class,
+                userRepository.findProfileByEmail(email).switchIfEmpty(Mono.error(UserNotFoundException::new)));
+    }
+
+    private Mono<UserResponse> toSingleResponse(Flux<UserCardRow> rows) {
+        return rows.collectList().flatMap(list -> list.isEmpty()
+                ? Mono.error(new UserNotFoundException())
+                : Mono.just(userMapper.toResponses(list).get(0)));
+    }
+
+    public Mono<UserResponse> update(UUID id, UserRequest userRequest) {
+        return CurrentUser.require(id)
+                .then(userRepository.findById(id))
+                .switchIfEmpty(Mono.error(UserNotFoundException::new))
+                .flatMap(user -> updateUserFields(user, userRequest))
+                .flatMap(userRepository::save)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new ValueAlreadyExistsException("email", userRequest.getEmail()))
+                .then(toSingleResponse(userRepository.findRowsById(id)))
+                .as(transactionalOperator::transactional)
+                .flatMap(response -> cache.put(CACHE_USERS, id, response)
+                        .then(userRequest.getEmail() != null
+                                ? uniquenessPublisher.publishEmail(response.getEmail()) : Mono.empty())
+                        .thenReturn(response));
+    }
+
+    private Mono<UserRecord> updateUserFields(UserRecord user, UserRequest userRequest) {
+        if (userRequest.getBirthDate() != null) {
+            user.setBirthDate(userRequest.getBirthDate());
+        }
+        if (userRequest.getName() != null) {
+            user.setName(userRequest.getName());
+        }
+        if (userRequest.getSurname() != null) {
+            user.setSurname(userRequest.getSurname());
+        }
+        if (userRequest.getEmail() == null || userRequest.getEmail().equals(user.getEmail())) {
+            return Mono.just(user);
+        }
+
+        String previousEmail = user.getEmail();
+        return isEmailTaken(userRequest.getEmail()).flatMap(taken -> {
+            if (taken) return Mono.error(new ValueAlreadyExistsException("email", userRequest.getEmail()));
+
+            user.setEmail(userRequest.getEmail());
+            return cache.evict(CACHE_USERS, previousEmail).thenReturn(user);
+        });
+    }
+
+    private Mono<Boolean> isEmailTaken(String email) {
+        return userRepository.existsByEmail(email);
+    }
+
+    public Mono<Void> delete(UUID id) {
+        return CurrentUser.require(id)
+                .then(userRepository.findEmailById(id))
+                .switchIfEmpty(Mono.error(UserNotFoundException::new))
+                .flatMap(email -> cardRepository.findIdsByUserId(id).collectList()
+                        .flatMap(cardIds -> userRepository.deleteUserById(id)
+                                .filter(deleted -> deleted > 0)
+                                .switchIfEmpty(Mono.error(UserNotFoundException::new))
+                                .then(cache.evict(CACHE_CARDS, cardIds.toArray()))
+                                .then(cache.evict(CACHE_USERS, id, email))
+                                .then(cache.invalidateCardPages(id))))
+                .as(transactionalOperator::transactional);
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.userserv.reactive;
+
+import org.example.userserv.dto.CardRequest;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.dto.UserRequest;
+import org.example.userserv.dto.UserResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface RecordMapper {
+    @Mapping(target = "id", ignore = true)
+    UserRecord toRecord(UserRequest userRequest);
+
+    @Mapping(target = "cards", ignore = true)
+    UserResponse toResponse(UserRecord user);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "numberHash", ignore = true)
+    CardRecord toRecord(CardRequest cardRequest);
+
+    CardResponse toResponse(CardRecord card);
+}
@@ -0,0 +1,23 @@
+package org.example.userserv.reactive;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Table("users")
+@Data
+public class UserRecord {
+
+    @Id
+    private UUID id;
+
+    private String name;
+
+    private String surname;
+
+    private LocalDate birthDate;
+
+    private String email;
+}
@@ -0,0 +1,72 @@
+package org.example.userserv.cache;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveTtlFunctionTest {
+    private static final Duration MIN_TTL = Duration.ofMinutes(5);
+    private static final Duration MAX_TTL = Duration.ofHours(6);
+
+    private final KeyAccessStats stats = new KeyAccessStats(100);
+    private final AdaptiveTtlFunction ttlFunction = new AdaptiveTtlFunction(stats, MIN_TTL, MAX_TTL, 20);
+
+    @Test
+    void testColdKeyGetsShortTtl() {
+        stats.recordRead("cold", false);
+        stats.recordPut("cold");
+
+        Duration ttl = ttlFunction.getTimeToLive("cold", "value");
+
+        assertTrue(ttl.compareTo(Duration.ofMinutes(30)) < 0);
+    }
+
+    @Test
+    void testHotStableKeyGetsMaxTtl() {
+        for (int i = 0; i < 100; i++) stats.recordRead("hot", true);
+
+        assertEquals(MAX_TTL, ttlFunction.getTimeToLive("hot", "value"));
+    }
+
+    @Test
+    void testWriteHeavyKeyGetsShortTtl() {
+        for (int i = 0; i < 100; i++) {
+            stats.recordRead("busy", true);
+            stats.recordWrite("busy");
+        }
+
+        Duration ttl = ttlFunction.getTimeToLive("busy", "value");
+
+        assertTrue(ttl.compareTo(Duration.ofMinutes(30)) < 0);
+    }
+
+    @Test
+    void testLoadAfterMissIsNotCountedAsWrite() {
+        stats.recordRead("key", false);
+        stats.recordPut("key");
+
+        assertEquals(0, stats.writes("key"));
+
+        stats.recordPut("key");
+
+        assertEquals(1, stats.writes("key"));
+    }
+
+    @Test
+    void testUntrackedKeyGetsMinTtl() {
+        KeyAccessStats full = new KeyAccessStats(0);
+        AdaptiveTtlFunction function = new AdaptiveTtlFunction(full, MIN_TTL, MAX_TTL, 20);
+        full.recordRead("key", true);
+
+        assertEquals(MIN_TTL, function.getTimeToLive("key", "value"));
+    }
+
+    @Test
+    void testDecayDropsIdleKeys() {
+        stats.recordRead("key", true);
+        stats.decay();
+
+        assertEquals(0, stats.size());
+    }
+}
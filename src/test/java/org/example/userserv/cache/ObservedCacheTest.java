@@ -0,0 +1,68 @@
+package org.example.userserv.cache;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObservedCacheTest {
+    private final List<Observation.Context> stopped = new ArrayList<>();
+    private final ObservationRegistry registry = ObservationRegistry.create();
+    private ObservedCache cache;
+
+    @BeforeEach
+    void initialize() {
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        cache = new ObservedCache(new ConcurrentMapCache("users"), registry);
+    }
+
+    @Test
+    void testObservesEachOperation() {
+        cache.get("key");
+        cache.put("key", "value");
+        cache.get("key", String.class);
+        cache.evict("key");
+
+        assertEquals(List.of("get", "put", "get", "evict"), stopped.stream()
+                .map(context -> context.getLowCardinalityKeyValue("operation").getValue())
+                .toList());
+        stopped.forEach(context -> {
+            assertEquals(ObservedCache.OBSERVATION_NAME, context.getName());
+            assertEquals("users", context.getLowCardinalityKeyValue("cache").getValue());
+        });
+    }
+
+    @Test
+    void testRecordsHitsAndMisses() {
+        cache.get("key");
+        cache.put("key", "value");
+        cache.get("key");
+
+        assertEquals("miss", stopped.get(0).getLowCardinalityKeyValue("result").getValue());
+        assertEquals("hit", stopped.get(2).getLowCardinalityKeyValue("result").getValue());
+    }
+
+    @Test
+    void testRecordsErrors() {
+        ObservedCache strict = new ObservedCache(new ConcurrentMapCache("users", false), registry);
+
+        assertThrows(IllegalArgumentException.class, () -> strict.put("key", null));
+        assertInstanceOf(IllegalArgumentException.class, stopped.get(0).getError());
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.userserv.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.dao.QueryTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientCacheTest {
+    private static final int FAILURE_THRESHOLD = 3;
+
+    private final LatencyInjectingCache redis = new LatencyInjectingCache();
+    private CacheCircuitBreaker circuitBreaker;
+    private ResilientCache cache;
+
+    @BeforeEach
+    void initialize() {
+        circuitBreaker = new CacheCircuitBreaker(FAILURE_THRESHOLD, Duration.ofMillis(20));
+        cache = new ResilientCache(redis, circuitBreaker);
+    }
+
+    @Test
+    void testReadsThroughWhenHealthy() {
+        cache.put("key", "value");
+
+        assertEquals("value", cache.get("key").get());
+        assertFalse(circuitBreaker.isOpen());
+    }
+
+    @Test
+    void testFailuresAreNotPropagated() {
+        redis.failing = true;
+
+        assertNull(cache.get("key"));
+        assertDoesNotThrow(() -> cache.put("key", "value"));
+        assertDoesNotThrow(() -> cache.evict("key"));
+    }
+
+    @Test
+    void testCircuitOpensAfterRepeatedFailures() {
+        redis.failing = true;
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) cache.get("key");
+        int callsBeforeOpen = redis.calls.get();
+
+        assertTrue(circuitBreaker.isOpen());
+        assertNull(cache.get("key"));
+        assertEquals(callsBeforeOpen, redis.calls.get());
+    }
+
+    @Test
+    void testSlowCallsOpenCircuit() {
+        redis.latency = Duration.ofMillis(50);
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) cache.get("key");
+
+        assertTrue(circuitBreaker.isOpen());
+    }
+
+    @Test
+    void testLoaderIsUsedWhenCircuitIsOpen() {
+        redis.failing = true;
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) cache.get("key");
+
+        assertEquals("loaded", cache.get("key", () -> "loaded"));
+        assertTrue(circuitBreaker.resetDroppedWrites());
+    }
+
+    @Test
+    void testFailedEvictHidesStaleValueUntilReplayed() {
+        cache.put("key", "stale");
+        redis.failing = true;
+        cache.evict("key");
+
+        redis.failing = false;
+        redis.calls.set(0);
+
+        assertNull(cache.get("key"));
+        assertEquals(0, redis.calls.get());
+
+        assertTrue(cache.replayEvictions());
+        assertNull(redis.get("key"));
+    }
+
+    @Test
+    void testFailedEvictIsReplayedAfterRecovery() {
+        cache.put("key", "stale");
+        redis.failing = true;
+        cache.evict("key");
+        assertFalse(cache.replayEvictions());
+
+        redis.failing = false;
+
+        assertTrue(cache.replayEvictions());
+        assertNull(redis.get("key"));
+    }
+
+    @Test
+    void testCloseResumesDelegation() {
+        redis.failing = true;
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) cache.get("key");
+
+        redis.failing = false;
+        circuitBreaker.close();
+        cache.put("key", "value");
+
+        assertEquals("value", cache.get("key").get());
+    }
+
+    private static class LatencyInjectingCache extends ConcurrentMapCache {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean failing;
+        private volatile Duration latency = Duration.ZERO;
+
+        LatencyInjectingCache() {
+            super("users");
+        }
+
+        @Override
+        public Cache.ValueWrapper get(Object key) {
+            simulate();
+            return super.get(key);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            simulate();
+            super.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            simulate();
+            super.evict(key);
+        }
+
+        private void simulate() {
+            calls.incrementAndGet();
+            if (failing) throw new QueryTimeoutException("Redis command timed out");
+
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
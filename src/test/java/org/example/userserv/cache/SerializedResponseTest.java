@@ -0,0 +1,37 @@
+package org.example.userserv.cache;
+
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedResponseTest {
+    private static final byte[] SMALL = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LARGE = ("{\"cards\":[" + "{\"number\":\"1111\"},".repeat(200) + "{}]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testSmallResponseIsNotCompressed() {
+        SerializedResponse response = SerializedResponse.of(SMALL, 1024);
+
+        assertFalse(response.isGzipped());
+        assertArrayEquals(SMALL, response.body());
+    }
+
+    @Test
+    void testLargeResponseIsCompressed() {
+        SerializedResponse response = SerializedResponse.of(LARGE, 1024);
+
+        assertTrue(response.isGzipped());
+        assertTrue(response.body().length < LARGE.length);
+        assertArrayEquals(LARGE, response.identityBody());
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        SerializedResponse decoded = SerializedResponse.decode(SerializedResponse.of(LARGE, 1024).encode());
+
+        assertTrue(decoded.isGzipped());
+        assertArrayEquals(LARGE, decoded.identityBody());
+    }
+}
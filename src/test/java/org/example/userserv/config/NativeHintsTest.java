@@ -0,0 +1,43 @@
+package org.example.userserv.config;
+
+import org.example.userserv.dto.UserProfileResponse;
+import org.example.userserv.entity.User;
+import org.example.userserv.mapper.UserMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeHintsTest {
+    private final RuntimeHints hints = new RuntimeHints();
+
+    {
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testRegistersMapperImplementations() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("org.example.userserv.mapper.UserMapperImpl")).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies()
+                .forInterfaces(AopProxyUtils.completeJdkProxyInterfaces(UserMapper.class)).test(hints));
+    }
+
+    @Test
+    void testRegistersJjwtServices() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder")).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Deserializer").test(hints));
+    }
+
+    @Test
+    void testRegistersEntitiesAndCachedResponses() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(User.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserProfileResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/changelog/directory/db.changelog-directory.xml").test(hints));
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.http.*;
+import org.springframework.security.crypto.keygen.KeyGenerators;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.GenericContainer;
@@ -22,12 +23,14 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 import java.time.LocalDate;
+import java.util.Base64;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Testcontainers
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class CardControllerIntegrationTest {
+    private static final byte[] HASH_KEY = KeyGenerators.secureRandom(32).generateKey();
     private static final LocalDate EXPIRATION_DATE = LocalDate.of(2030, 1, 1);
     private static final String URL = "/v1/cards/";
 
@@ -49,6 +52,9 @@ class CardControllerIntegrationTest {
 
         registry.add("spring.data.redis.host", redis::getHost);
         registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+
+        registry.add("grpc.server.port", () -> 0);
+        registry.add("CARD_NUMBER_HASH_KEY", () -> Base64.getEncoder().encodeToString(HASH_KEY));
     }
 
     @Autowired
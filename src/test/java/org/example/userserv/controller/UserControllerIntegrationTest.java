@@ -13,6 +13,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.keygen.KeyGenerators;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.GenericContainer;
@@ -21,6 +22,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 import java.time.LocalDate;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,6 +32,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @Testcontainers
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class UserControllerIntegrationTest {
+    private static final byte[] HASH_KEY = KeyGenerators.secureRandom(32).generateKey();
     private static final LocalDate BIRTH_DATE = LocalDate.of(2020, 1, 1);
     private static final String URL = "/v1/users/";
 
@@ -51,6 +54,9 @@ class UserControllerIntegrationTest {
 
         registry.add("spring.data.redis.host", () -> redis.getHost());
         registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+
+        registry.add("grpc.server.port", () -> 0);
+        registry.add("CARD_NUMBER_HASH_KEY", () -> Base64.getEncoder().encodeToString(HASH_KEY));
     }
 
     @Autowired
@@ -144,6 +150,15 @@ class UserControllerIntegrationTest {
         assertThat(user.getEmail()).isEqualTo(testUser.getEmail());
     }
 
+    @Test
+    void testFindUserByEmailIgnoresCase() {
+        ResponseEntity<UserResponse> response = restTemplate.getForEntity(
+                URL + "email/" + testUser.getEmail().toUpperCase(), UserResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getId()).isEqualTo(testUser.getId());
+    }
+
     @Test
     void testFindUsersByIds() {
         User user = new User();
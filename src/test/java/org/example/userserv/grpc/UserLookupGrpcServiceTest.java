@@ -0,0 +1,196 @@
+package org.example.userserv.grpc;
+
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.dto.UserResponse;
+import org.example.userserv.grpc.v1.UserBatch;
+import org.example.userserv.grpc.v1.UserIds;
+import org.example.userserv.grpc.v1.UserLookupGrpc;
+import org.example.userserv.ratelimit.LoadShedder;
+import org.example.userserv.service.ChunkedLookupExecutor;
+import org.example.userserv.service.UserService;
+import org.example.userserv.util.SecurityUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserLookupGrpcServiceTest {
+    private static final String TOKEN = "token";
+
+    private final UserService userService = mock(UserService.class);
+    private final SecurityUtil securityUtil = mock(SecurityUtil.class);
+    private final LoadShedder loadShedder = new LoadShedder(null, 1, 0);
+    private volatile boolean rateLimited;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(securityUtil.parseUserId(anyString())).thenReturn(Optional.empty());
+        when(securityUtil.parseUserId(TOKEN)).thenReturn(Optional.of(UUID.randomUUID()));
+        when(userService.findByIds(anyList())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(UserLookupGrpcServiceTest::user).toList();
+        });
+
+        String name = InProcessServerBuilder.generateName();
+        UserLookupGrpcService service = new UserLookupGrpcService(userService,
+                new ChunkedLookupExecutor(2, 2, 2, 10), new FlowControlledStreamer(2));
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .intercept(new ThrottlingServerInterceptor(userId -> !rateLimited, loadShedder))
+                .intercept(new JwtServerInterceptor(securityUtil))
+                .addService(service)
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void testGetUsersByIdsReturnsMappedUsers() {
+        UUID id = UUID.randomUUID();
+
+        UserBatch batch = stub(TOKEN).getUsersByIds(ids(List.of(id)));
+
+        assertEquals(1, batch.getUsersCount());
+        assertEquals(id, GrpcMessages.toUuid(batch.getUsers(0).getId()));
+        assertEquals(LocalDate.of(1990, 1, 1).toEpochDay(), batch.getUsers(0).getBirthDate());
+        assertEquals(id, GrpcMessages.toUuid(batch.getUsers(0).getCards(0).getUserId()));
+    }
+
+    @Test
+    void testStreamUsersByIdsSendsOneBatchPerChunk() {
+        List<UUID> ids = IntStream.range(0, 5).mapToObj(i -> UUID.randomUUID()).toList();
+
+        List<UUID> streamed = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        stub(TOKEN).streamUsersByIds(ids(ids)).forEachRemaining(batch -> {
+            sizes.add(batch.getUsersCount());
+            batch.getUsersList().forEach(user -> streamed.add(GrpcMessages.toUuid(user.getId())));
+        });
+
+        assertEquals(List.of(2, 2, 1), sizes);
+        assertEquals(ids, streamed);
+    }
+
+    @Test
+    void testStreamUsersByIdsRejectsTooManyIds() {
+        List<UUID> ids = IntStream.range(0, 11).mapToObj(i -> UUID.randomUUID()).toList();
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub(TOKEN).streamUsersByIds(ids(ids)).hasNext());
+
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, ex.getStatus().getCode());
+    }
+
+    @Test
+    void testRejectsRateLimitedUser() {
+        rateLimited = true;
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub(TOKEN).getUsersByIds(ids(List.of(UUID.randomUUID()))));
+
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, ex.getStatus().getCode());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void testReleasesLoadSheddingPermitAfterCall() {
+        stub(TOKEN).getUsersByIds(ids(List.of(UUID.randomUUID())));
+        stub(TOKEN).streamUsersByIds(ids(List.of(UUID.randomUUID()))).forEachRemaining(batch -> { });
+
+        assertTrue(loadShedder.tryEnter());
+    }
+
+    @Test
+    void testRejectsWhenOverloaded() {
+        assertTrue(loadShedder.tryEnter());
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub(TOKEN).getUsersByIds(ids(List.of(UUID.randomUUID()))));
+
+        assertEquals(Status.Code.UNAVAILABLE, ex.getStatus().getCode());
+    }
+
+    @Test
+    void testRejectsMissingToken() {
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> UserLookupGrpc.newBlockingStub(channel).getUsersByIds(ids(List.of(UUID.randomUUID()))));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, ex.getStatus().getCode());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void testRejectsInvalidToken() {
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub("invalid").getUsersByIds(ids(List.of(UUID.randomUUID()))));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, ex.getStatus().getCode());
+    }
+
+    @Test
+    void testGetUsersByIdsRejectsMalformedId() {
+        UserIds request = UserIds.newBuilder().addIds(ByteString.copyFromUtf8("short")).build();
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub(TOKEN).getUsersByIds(request));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+    }
+
+    private UserLookupGrpc.UserLookupBlockingStub stub(String token) {
+        Metadata headers = new Metadata();
+        headers.put(JwtServerInterceptor.AUTHORIZATION, "Bearer " + token);
+
+        return UserLookupGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private static UserIds ids(List<UUID> ids) {
+        return UserIds.newBuilder().addAllIds(ids.stream().map(GrpcMessages::toBytes).toList()).build();
+    }
+
+    private static UserResponse user(UUID id) {
+        CardResponse card = new CardResponse();
+        card.setId(1L);
+        card.setNumber("1234567812345678");
+        card.setHolder("TEST USER");
+        card.setExpirationDate(LocalDate.of(2030, 1, 1));
+        card.setUserId(id);
+
+        UserResponse user = new UserResponse();
+        user.setId(id);
+        user.setName("Test");
+        user.setSurname("User");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setEmail("test@example.com");
+        user.setCards(List.of(card));
+
+        return user;
+    }
+}
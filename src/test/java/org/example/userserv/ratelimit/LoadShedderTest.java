@@ -0,0 +1,58 @@
+package org.example.userserv.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.servlet.FilterChain;
+import org.example.userserv.config.RateLimitFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoadShedderTest {
+
+    @Test
+    void testSeesHikariPoolThroughLazyProxy() throws Exception {
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(hikari.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(hikari.unwrap(HikariDataSource.class)).thenReturn(hikari);
+        when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(5);
+
+        LoadShedder loadShedder = new LoadShedder(new LazyConnectionDataSourceProxy(hikari), 10, 2);
+
+        assertFalse(loadShedder.tryEnter());
+    }
+
+    @Test
+    void testAsyncRequestHoldsPermitUntilComplete() throws Exception {
+        LoadShedder loadShedder = new LoadShedder(null, 1, 0);
+        RateLimitFilter filter = new RateLimitFilter(userId -> true, loadShedder, new ObjectMapper());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        FilterChain startsAsync = (req, res) -> req.startAsync();
+
+        filter.doFilter(request, new MockHttpServletResponse(), startsAsync);
+
+        assertFalse(loadShedder.tryEnter());
+
+        request.getAsyncContext().complete();
+
+        assertTrue(loadShedder.tryEnter());
+    }
+
+    @Test
+    void testSyncRequestReleasesPermit() throws Exception {
+        LoadShedder loadShedder = new LoadShedder(null, 1, 0);
+        RateLimitFilter filter = new RateLimitFilter(userId -> true, loadShedder, new ObjectMapper());
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (req, res) -> { });
+
+        assertTrue(loadShedder.tryEnter());
+    }
+}
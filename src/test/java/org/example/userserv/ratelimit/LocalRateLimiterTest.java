@@ -0,0 +1,50 @@
+package org.example.userserv.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRateLimiterTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final LocalRateLimiter rateLimiter = new LocalRateLimiter(3, 1, clock::get);
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void testRejectsWhenBucketIsEmpty() {
+        assertTrue(rateLimiter.tryAcquire(userId));
+        assertTrue(rateLimiter.tryAcquire(userId));
+        assertTrue(rateLimiter.tryAcquire(userId));
+
+        assertFalse(rateLimiter.tryAcquire(userId));
+    }
+
+    @Test
+    void testRefillsOverTime() {
+        for (int i = 0; i < 3; i++) rateLimiter.tryAcquire(userId);
+
+        clock.addAndGet(1_000_000_000L);
+
+        assertTrue(rateLimiter.tryAcquire(userId));
+        assertFalse(rateLimiter.tryAcquire(userId));
+    }
+
+    @Test
+    void testBucketsArePerUser() {
+        for (int i = 0; i < 3; i++) rateLimiter.tryAcquire(userId);
+
+        assertTrue(rateLimiter.tryAcquire(UUID.randomUUID()));
+    }
+
+    @Test
+    void testEvictIdleRemovesRefilledBuckets() {
+        rateLimiter.tryAcquire(userId);
+        rateLimiter.evictIdle();
+        assertEquals(1, rateLimiter.size());
+
+        clock.addAndGet(1_000_000_000L);
+        rateLimiter.evictIdle();
+
+        assertEquals(0, rateLimiter.size());
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.userserv.ratelimit;
+
+import org.example.userserv.cache.CacheCircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisRateLimiterTest {
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final CacheCircuitBreaker circuitBreaker = new CacheCircuitBreaker(2, Duration.ofSeconds(1));
+    private final RedisRateLimiter rateLimiter =
+            new RedisRateLimiter(redisTemplate, userId -> true, circuitBreaker, 10, 5);
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSkipsRedisWhileCircuitIsOpen() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(rateLimiter.tryAcquire(userId));
+        assertTrue(rateLimiter.tryAcquire(userId));
+        assertTrue(circuitBreaker.isOpen());
+
+        assertTrue(rateLimiter.tryAcquire(userId));
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUsesRedisWhenCircuitIsClosed() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+
+        assertFalse(rateLimiter.tryAcquire(userId));
+        assertFalse(circuitBreaker.isOpen());
+    }
+}
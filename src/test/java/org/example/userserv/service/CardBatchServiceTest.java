@@ -0,0 +1,245 @@
+package org.example.userserv.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.example.userserv.dto.CardBatchRequest;
+import org.example.userserv.dto.CardOperation;
+import org.example.userserv.dto.CardOperationResult;
+import org.example.userserv.dto.CardRequest;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.exception.BatchTooLargeException;
+import org.example.userserv.exception.ValueAlreadyExistsException;
+import org.example.userserv.repository.CardBatchRepository;
+import org.example.userserv.repository.CardRepository;
+import org.example.userserv.repository.UserRepository;
+import org.example.userserv.sharding.LocalShardDirectory;
+import org.example.userserv.util.CardNumberFilter;
+import org.example.userserv.util.CardNumberHasher;
+import org.example.userserv.util.SecurityUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CardBatchServiceTest {
+    private static final LocalDate EXPIRATION_DATE = LocalDate.of(2030, 1, 1);
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private CardBatchRepository cardBatchRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private CardNumberFilter cardNumberFilter;
+
+    @Mock
+    private CardPageService cardPageService;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final CardNumberHasher cardNumberHasher = new CardNumberHasher(
+            Base64.getEncoder().encodeToString("test-hash-key".getBytes(StandardCharsets.UTF_8)));
+
+    private CardBatchService cardBatchService;
+
+    private final UUID uuid = UUID.randomUUID();
+
+    @BeforeEach
+    void initialize() {
+        cardBatchService = new CardBatchService(cardRepository, cardBatchRepository, userRepository,
+                cacheManager, securityUtil, cardNumberHasher, cardNumberFilter, validator, cardPageService,
+                new LocalShardDirectory(), 3);
+
+        lenient().when(cardNumberFilter.mightContain(any(byte[].class))).thenReturn(true);
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(cardBatchRepository).inSavepoint(any());
+
+        lenient().when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        lenient().when(userRepository.findEmailById(uuid)).thenReturn(Optional.of("test@example.com"));
+    }
+
+    @Test
+    void testCreateUpdateAndDeleteInOneBatch() {
+        CardResponse existing = new CardResponse(1L, "1111", "Holder", EXPIRATION_DATE, uuid);
+        CardResponse toDelete = new CardResponse(2L, "2222", "Holder", EXPIRATION_DATE, uuid);
+
+        when(cardRepository.findResponsesByIds(anyList())).thenReturn(List.of(existing, toDelete));
+        when(cardRepository.findExistingNumberHashes(anyCollection())).thenReturn(List.of());
+        when(cardBatchRepository.insertAll(anyList())).thenReturn(List.of(3L));
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+
+        List<CardOperationResult> results = cardBatchService.execute(request(false,
+                create("3333"), update(1L, "New holder"), delete(2L)));
+
+        assertTrue(results.stream().allMatch(r -> r.getStatus() == CardOperationResult.Status.APPLIED));
+        assertEquals(3L, results.get(0).getCard().getId());
+        assertEquals("New holder", results.get(1).getCard().getHolder());
+        verify(cardBatchRepository).deleteAll(List.of(2L));
+        verify(cache).evict(uuid);
+        verify(cache).evict("test@example.com");
+    }
+
+    @Test
+    void testPartialFailureIsReportedPerItem() {
+        when(cardRepository.findResponsesByIds(anyList())).thenReturn(List.of());
+        when(cardRepository.findExistingNumberHashes(anyCollection()))
+                .thenReturn(List.of(cardNumberHasher.hash("1111")));
+        when(cardBatchRepository.insertAll(anyList())).thenReturn(List.of(5L));
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+
+        List<CardOperationResult> results = cardBatchService.execute(request(false,
+                create("1111"), create("4444"), delete(9L)));
+
+        assertEquals(CardOperationResult.Status.FAILED, results.get(0).getStatus());
+        assertEquals(CardOperationResult.Status.APPLIED, results.get(1).getStatus());
+        assertEquals("Card not found", results.get(2).getError());
+    }
+
+    @Test
+    void testDatabaseConflictIsReportedPerItem() {
+        when(cardRepository.findExistingNumberHashes(anyCollection())).thenReturn(List.of());
+        when(cardBatchRepository.insertAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(List.of(7L))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+
+        List<CardOperationResult> results = cardBatchService.execute(request(false,
+                create("5555"), create("6666")));
+
+        assertEquals(CardOperationResult.Status.APPLIED, results.get(0).getStatus());
+        assertEquals(7L, results.get(0).getCard().getId());
+        assertEquals(CardOperationResult.Status.FAILED, results.get(1).getStatus());
+        assertEquals("Field 'number' with value '6666' already exists", results.get(1).getError());
+    }
+
+    @Test
+    void testAtomicBatchFailsOnDatabaseConflict() {
+        when(cardRepository.findExistingNumberHashes(anyCollection())).thenReturn(List.of());
+        when(cardBatchRepository.insertAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThrows(ValueAlreadyExistsException.class, () -> cardBatchService.execute(request(true,
+                create("5555"), create("6666"))));
+        verify(cardBatchRepository, never()).inSavepoint(any());
+    }
+
+    @Test
+    void testDeletesAreAppliedBeforeInserts() {
+        CardResponse toDelete = new CardResponse(2L, "2222", "Holder", EXPIRATION_DATE, uuid);
+
+        when(cardRepository.findResponsesByIds(anyList())).thenReturn(List.of(toDelete));
+        when(cardRepository.findExistingNumberHashes(anyCollection())).thenReturn(List.of());
+        when(cardBatchRepository.insertAll(anyList())).thenReturn(List.of(3L));
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+
+        cardBatchService.execute(request(false, create("3333"), delete(2L)));
+
+        InOrder inOrder = inOrder(cardBatchRepository);
+        inOrder.verify(cardBatchRepository).deleteAll(List.of(2L));
+        inOrder.verify(cardBatchRepository).insertAll(anyList());
+    }
+
+    @Test
+    void testAtomicBatchIsAbortedOnFailure() {
+        CardResponse foreign = new CardResponse(1L, "1111", "Holder", EXPIRATION_DATE, UUID.randomUUID());
+
+        when(cardRepository.findResponsesByIds(anyList())).thenReturn(List.of(foreign));
+        when(cardRepository.findExistingNumberHashes(anyCollection())).thenReturn(List.of());
+
+        List<CardOperationResult> results = cardBatchService.execute(request(true,
+                create("4444"), delete(1L)));
+
+        assertEquals(CardOperationResult.Status.SKIPPED, results.get(0).getStatus());
+        assertEquals("Access denied", results.get(1).getError());
+        verifyNoInteractions(cardBatchRepository);
+    }
+
+    @Test
+    void testDuplicateNumberWithinBatchIsRejected() {
+        when(cardRepository.findExistingNumberHashes(anyCollection())).thenReturn(List.of());
+        when(cardBatchRepository.insertAll(anyList())).thenReturn(List.of(7L));
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+
+        List<CardOperationResult> results = cardBatchService.execute(request(false,
+                create("5555"), create("5555")));
+
+        assertEquals(CardOperationResult.Status.APPLIED, results.get(0).getStatus());
+        assertEquals(CardOperationResult.Status.FAILED, results.get(1).getStatus());
+    }
+
+    @Test
+    void testBatchOverLimitIsRejected() {
+        assertThrows(BatchTooLargeException.class, () -> cardBatchService.execute(request(false,
+                create("1111"), create("2222"), create("3333"), create("4444"))));
+        verifyNoInteractions(cardRepository, cardBatchRepository);
+    }
+
+    private CardBatchRequest request(boolean atomic, CardOperation... operations) {
+        CardBatchRequest request = new CardBatchRequest();
+        request.setAtomic(atomic);
+        request.setOperations(List.of(operations));
+
+        return request;
+    }
+
+    private CardOperation create(String number) {
+        CardRequest card = new CardRequest();
+        card.setNumber(number);
+        card.setHolder("Holder");
+        card.setExpirationDate(EXPIRATION_DATE);
+        card.setUserId(uuid);
+
+        return operation(CardOperation.Type.CREATE, null, card);
+    }
+
+    private CardOperation update(Long id, String holder) {
+        CardRequest card = new CardRequest();
+        card.setHolder(holder);
+
+        return operation(CardOperation.Type.UPDATE, id, card);
+    }
+
+    private CardOperation delete(Long id) {
+        return operation(CardOperation.Type.DELETE, id, null);
+    }
+
+    private CardOperation operation(CardOperation.Type type, Long id, CardRequest card) {
+        CardOperation operation = new CardOperation();
+        operation.setType(type);
+        operation.setId(id);
+        operation.setCard(card);
+
+        return operation;
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.userserv.service;
+
+import org.example.userserv.dto.CardPageResponse;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.repository.CardRepository;
+import org.example.userserv.util.SecurityUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CardPageServiceTest {
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache pages;
+
+    @Mock
+    private Cache generations;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    private CardPageService cardPageService;
+
+    private final UUID uuid = UUID.randomUUID();
+
+    @BeforeEach
+    void initialize() {
+        cardPageService = new CardPageService(cardRepository, cacheManager, securityUtil, 2, 10);
+    }
+
+    @Test
+    void testFirstPageHasNextCursor() {
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(cardRepository.findPageByUserId(uuid, 0L, Limit.of(3))).thenReturn(cards(1, 2, 3));
+
+        CardPageResponse page = cardPageService.findByUserId(uuid, null, null);
+
+        assertEquals(List.of(1L, 2L), page.getCards().stream().map(CardResponse::getId).toList());
+        assertEquals(2L, page.getNextCursor());
+    }
+
+    @Test
+    void testLastPageHasNoCursor() {
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(cardRepository.findPageByUserId(uuid, 2L, Limit.of(3))).thenReturn(cards(3));
+
+        CardPageResponse page = cardPageService.findByUserId(uuid, 2L, null);
+
+        assertEquals(1, page.getCards().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testCachedPageIsKeyedByGeneration() {
+        CardPageResponse cached = new CardPageResponse(cards(1), null);
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(cacheManager.getCache("card-pages")).thenReturn(pages);
+        when(cacheManager.getCache("card-page-generations")).thenReturn(generations);
+        when(generations.get(uuid, String.class)).thenReturn("g1");
+        when(pages.get(uuid + ":g1:0:2", CardPageResponse.class)).thenReturn(cached);
+
+        assertSame(cached, cardPageService.findByUserId(uuid, null, null));
+        verifyNoInteractions(cardRepository);
+    }
+
+    @Test
+    void testInvalidateRotatesGeneration() {
+        when(cacheManager.getCache("card-page-generations")).thenReturn(generations);
+
+        cardPageService.invalidate(uuid);
+
+        verify(generations).put(eq(uuid), anyString());
+    }
+
+    @Test
+    void testInvalidateWaitsForCommit() {
+        when(cacheManager.getCache("card-page-generations")).thenReturn(generations);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cardPageService.invalidate(uuid);
+            verifyNoInteractions(generations);
+
+            TransactionSynchronizationUtils.invokeAfterCommit(
+                    TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(generations).put(eq(uuid), anyString());
+    }
+
+    @Test
+    void testFindByUserIdForAnotherUser() {
+        when(securityUtil.getCurrentUserId()).thenReturn(UUID.randomUUID());
+
+        assertThrows(AccessDeniedException.class, () -> cardPageService.findByUserId(uuid, null, null));
+        verify(cardRepository, never()).findPageByUserId(any(), anyLong(), any());
+    }
+
+    private List<CardResponse> cards(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> new CardResponse(id, "1111", "Holder", null, uuid)).toList();
+    }
+}
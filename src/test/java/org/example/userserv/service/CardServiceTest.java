@@ -11,12 +11,22 @@ import org.example.userserv.exception.ValueAlreadyExistsException;
 import org.example.userserv.mapper.CardMapper;
 import org.example.userserv.repository.CardRepository;
 import org.example.userserv.repository.UserRepository;
+import org.example.userserv.sharding.LocalShardDirectory;
+import org.example.userserv.sharding.ShardDirectory;
+import org.example.userserv.sharding.ShardRouter;
+import org.example.userserv.util.CardNumberFilter;
+import org.example.userserv.util.CardNumberHasher;
+import org.example.userserv.util.SecurityUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -25,12 +35,13 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CardServiceTest {
     @Mock
-    private RedisCacheManager cacheManager;
+    private CacheManager cacheManager;
 
     @Mock
     private Cache cache;
@@ -44,6 +55,30 @@ class CardServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private CardNumberHasher cardNumberHasher;
+
+    @Mock
+    private CardNumberFilter cardNumberFilter;
+
+    @Mock
+    private CardPageService cardPageService;
+
+    @Spy
+    private ChunkedLookupExecutor chunkedLookupExecutor = new ChunkedLookupExecutor(500, 4, 8, 5000);
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    @Spy
+    private ShardRouter shardRouter = ShardRouter.disabled();
+
+    @Spy
+    private ShardDirectory shardDirectory = new LocalShardDirectory();
+
     @InjectMocks
     private CardService cardService;
 
@@ -53,6 +88,7 @@ class CardServiceTest {
     private final User user = new User();
 
     private final UUID uuid = UUID.randomUUID();
+    private final byte[] numberHash = {1, 1, 1, 1};
 
     @BeforeEach
     void initialize() {
@@ -83,10 +119,13 @@ class CardServiceTest {
     void testCreateCard() {
         cache.put(user.getEmail(), user);
 
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(cardNumberHasher.hash("1111")).thenReturn(numberHash);
+        when(cardNumberFilter.mightContain(numberHash)).thenReturn(true);
         when(userRepository.findById(uuid)).thenReturn(Optional.of(user));
-        when(cardRepository.existsByNumber("1111")).thenReturn(false);
+        when(cardRepository.existsByNumberHash(numberHash)).thenReturn(false);
         when(cardMapper.toEntity(cardRequest)).thenReturn(card);
-        when(cardRepository.save(any(Card.class))).thenReturn(card);
+        when(cardRepository.saveAndFlush(any(Card.class))).thenReturn(card);
         when(cardMapper.toResponse(card)).thenReturn(cardResponse);
         when(cacheManager.getCache("users")).thenReturn(cache);
 
@@ -97,24 +136,49 @@ class CardServiceTest {
 
     @Test
     void testCreateCardNumberAlreadyExists() {
-        when(cardRepository.existsByNumber("1111")).thenReturn(true);
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(cardNumberHasher.hash("1111")).thenReturn(numberHash);
+        when(cardNumberFilter.mightContain(numberHash)).thenReturn(true);
+        when(cardRepository.existsByNumberHash(numberHash)).thenReturn(true);
 
         assertThrows(ValueAlreadyExistsException.class, () -> cardService.create(cardRequest));
     }
 
     @Test
     void testFindById() {
-        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
-        when(cardMapper.toResponse(card)).thenReturn(cardResponse);
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(cardRepository.findResponseById(1L)).thenReturn(Optional.of(cardResponse));
 
         CardResponse result = cardService.findById(1L);
 
         assertEquals(1L, result.getId());
     }
 
+    @Test
+    void testFindByIdCachedForOwner() {
+        when(cacheManager.getCache("cards")).thenReturn(cache);
+        when(cache.get(1L, CardResponse.class)).thenReturn(cardResponse);
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+
+        CardResponse result = cardService.findById(1L);
+
+        assertEquals(cardResponse, result);
+        verify(cardRepository, never()).findResponseById(anyLong());
+    }
+
+    @Test
+    void testFindByIdCachedForAnotherUser() {
+        when(cacheManager.getCache("cards")).thenReturn(cache);
+        when(cache.get(1L, CardResponse.class)).thenReturn(cardResponse);
+        when(securityUtil.getCurrentUserId()).thenReturn(UUID.randomUUID());
+
+        assertThrows(AccessDeniedException.class, () -> cardService.findById(1L));
+        verify(cardRepository, never()).findResponseById(anyLong());
+    }
+
     @Test
     void testFindByIdNotFound() {
-        when(cardRepository.findById(1L)).thenReturn(Optional.empty());
+        when(cardRepository.findResponseById(1L)).thenReturn(Optional.empty());
 
         assertThrows(CardNotFoundException.class, () -> cardService.findById(1L));
     }
@@ -126,8 +190,10 @@ class CardServiceTest {
             updateRequest.setHolder("New holder");
             updateRequest.setExpirationDate(LocalDate.of(2030,1,1));
 
+            when(securityUtil.getCurrentUserId()).thenReturn(uuid);
             when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
-            when(cardRepository.existsByNumber("New number")).thenReturn(false);
+            when(cardNumberHasher.hash("New number")).thenReturn(numberHash);
+            when(cardNumberFilter.mightContain(numberHash)).thenReturn(false);
 
             Card updatedCard = new Card();
             updatedCard.setId(1L);
@@ -143,7 +209,7 @@ class CardServiceTest {
             updatedResponse.setExpirationDate(updateRequest.getExpirationDate());
             updatedResponse.setUserId(uuid);
 
-            when(cardRepository.save(any(Card.class))).thenReturn(updatedCard);
+            when(cardRepository.saveAndFlush(any(Card.class))).thenReturn(updatedCard);
             when(cardMapper.toResponse(updatedCard)).thenReturn(updatedResponse);
             when(cacheManager.getCache("users")).thenReturn(cache);
 
@@ -156,8 +222,11 @@ class CardServiceTest {
 
     @Test
     void testUpdateCardNumberAlreadyExists() {
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
         when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
-        when(cardRepository.existsByNumber("New number")).thenReturn(true);
+        when(cardNumberHasher.hash("New number")).thenReturn(numberHash);
+        when(cardNumberFilter.mightContain(numberHash)).thenReturn(true);
+        when(cardRepository.existsByNumberHash(numberHash)).thenReturn(true);
 
         CardRequest updateRequest = new CardRequest();
         updateRequest.setNumber("New number");
@@ -168,14 +237,13 @@ class CardServiceTest {
     @Test
     void testFindByIds() {
         List<Long> ids = List.of(1L, 2L);
-        List<Card> cards = List.of(card, new Card());
-
-        when(cardRepository.findByIds(ids)).thenReturn(cards);
-        when(cardMapper.toResponse(card)).thenReturn(cardResponse);
+        CardResponse secondResponse = new CardResponse();
+        secondResponse.setId(2L);
+        when(cardRepository.findResponsesByIds(ids)).thenReturn(List.of(secondResponse, cardResponse));
 
         List<CardResponse> result = cardService.findByIds(ids);
 
-        assertEquals(2, result.size());
+        assertEquals(List.of(cardResponse, secondResponse), result);
     }
 
     @Test
@@ -187,6 +255,7 @@ class CardServiceTest {
 
     @Test
     void testDeleteCard() {
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
         when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
         when(cacheManager.getCache("users")).thenReturn(cache);
 
@@ -196,6 +265,26 @@ class CardServiceTest {
         verify(cache).evict(card.getUser().getId());
     }
 
+    @Test
+    void testDeleteCardReleasesNumberAfterCommit() {
+        card.setNumberHash(numberHash);
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cardService.delete(1L);
+            verify(shardDirectory, never()).releaseCardNumber(any(), any());
+
+            TransactionSynchronizationUtils.invokeAfterCommit(
+                    TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(shardDirectory).releaseCardNumber(numberHash, uuid);
+    }
+
     @Test
     void testDeleteCardNotFound() {
         when(cardRepository.findById(1L)).thenThrow(CardNotFoundException.class);
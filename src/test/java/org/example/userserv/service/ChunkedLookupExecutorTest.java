@@ -0,0 +1,76 @@
+package org.example.userserv.service;
+
+import org.example.userserv.exception.BatchTooLargeException;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedLookupExecutorTest {
+    private final ChunkedLookupExecutor executor = new ChunkedLookupExecutor(10, 2, 8, 200);
+
+    @Test
+    void testLoadMergesChunksInRequestOrder() {
+        List<Integer> ids = new ArrayList<>(IntStream.range(0, 95).boxed().toList());
+        Collections.shuffle(ids);
+        List<List<Integer>> chunks = Collections.synchronizedList(new ArrayList<>());
+
+        List<Integer> result = executor.load(ids, chunk -> {
+            chunks.add(chunk);
+            List<Integer> reversed = new ArrayList<>(chunk);
+            Collections.reverse(reversed);
+            return reversed;
+        }, id -> id);
+
+        assertEquals(ids, result);
+        assertEquals(10, chunks.size());
+    }
+
+    @Test
+    void testLoadSkipsMissingAndDuplicateIds() {
+        List<Integer> result = executor.load(List.of(3, 1, 3, 2),
+                chunk -> chunk.stream().filter(id -> id != 2).toList(), id -> id);
+
+        assertEquals(List.of(3, 1), result);
+    }
+
+    @Test
+    void testLoadRejectsOversizedBatch() {
+        List<Integer> ids = IntStream.range(0, 201).boxed().toList();
+
+        assertThrows(BatchTooLargeException.class, () -> executor.load(ids, chunk -> chunk, id -> id));
+    }
+
+    @Test
+    void testStreamCapsConcurrencyPerRequest() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+        executor.stream(IntStream.range(0, 100).boxed().toList(), chunk -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return chunk;
+        }, received::addAll);
+
+        assertEquals(100, received.size());
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    void testStreamPropagatesChunkFailure() {
+        List<Integer> ids = IntStream.range(0, 30).boxed().toList();
+
+        assertThrows(IllegalStateException.class, () -> executor.stream(ids, chunk -> {
+            throw new IllegalStateException("failed");
+        }, chunk -> { }));
+    }
+}
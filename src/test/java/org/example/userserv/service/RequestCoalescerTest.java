@@ -0,0 +1,66 @@
+package org.example.userserv.service;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+
+    @Test
+    void testConcurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> coalescer.load("users", 1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "value";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testDifferentKeysLoadIndependently() {
+        assertEquals("a", coalescer.load("users", 1L, () -> "a"));
+        assertEquals("b", coalescer.load("cards", 1L, () -> "b"));
+    }
+
+    @Test
+    void testFailureIsPropagatedAndNotRetained() {
+        assertThrows(IllegalStateException.class, () -> coalescer.load("users", 1L, () -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        assertEquals("value", coalescer.load("users", 1L, () -> "value"));
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.userserv.service;
+
+import org.example.userserv.dto.UserResponse;
+import org.example.userserv.dto.UserSearchResponse;
+import org.example.userserv.exception.InvalidRequestParameterException;
+import org.example.userserv.repository.UserSearchCursor;
+import org.example.userserv.repository.UserSearchRepository;
+import org.example.userserv.repository.UserSearchRow;
+import org.example.userserv.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchServiceTest {
+    @Mock
+    private UserSearchRepository userSearchRepository;
+
+    private UserSearchService userSearchService;
+
+    @BeforeEach
+    void initialize() {
+        userSearchService = new UserSearchService(userSearchRepository, ShardRouter.disabled(), 2, 5);
+    }
+
+    @Test
+    void testPrefixSearchReturnsNextCursor() {
+        List<UserSearchRow> rows = List.of(row("smith", "anna"), row("smith", "bob"), row("smithson", "carl"));
+        when(userSearchRepository.findBySurnamePrefix("Smi", null, null, 3)).thenReturn(rows);
+
+        UserSearchResponse response = userSearchService.search("Smi", null, false, null, null);
+
+        assertEquals(2, response.getUsers().size());
+        assertEquals(rows.get(1).cursor(), UserSearchCursor.decode(response.getNextCursor()));
+    }
+
+    @Test
+    void testLastPageHasNoCursor() {
+        UserSearchCursor after = new UserSearchCursor("smith", "bob", UUID.randomUUID());
+        when(userSearchRepository.findBySurnamePrefix(eq("Smi"), eq("Jo"), eq(after), eq(3)))
+                .thenReturn(List.of(row("smithson", "john")));
+
+        UserSearchResponse response = userSearchService.search("Smi", "Jo", false, after.encode(), null);
+
+        assertEquals(1, response.getUsers().size());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void testLimitIsCapped() {
+        when(userSearchRepository.findBySurnamePrefix(any(), isNull(), isNull(), eq(6))).thenReturn(List.of());
+
+        userSearchService.search("Smi", " ", false, null, 1000);
+
+        verify(userSearchRepository).findBySurnamePrefix("Smi", null, null, 6);
+    }
+
+    @Test
+    void testFuzzySearch() {
+        when(userSearchRepository.findBySimilarity("Smyth", null, 2)).thenReturn(List.of(new UserResponse()));
+
+        UserSearchResponse response = userSearchService.search("Smyth", null, true, null, null);
+
+        assertEquals(1, response.getUsers().size());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void testBlankSurnameIsRejected() {
+        assertThrows(InvalidRequestParameterException.class,
+                () -> userSearchService.search(" ", null, false, null, null));
+    }
+
+    @Test
+    void testInvalidCursorIsRejected() {
+        assertThrows(InvalidRequestParameterException.class,
+                () -> userSearchService.search("Smi", null, false, "not-a-cursor", null));
+    }
+
+    private UserSearchRow row(String surname, String name) {
+        UserResponse user = new UserResponse();
+        user.setId(UUID.randomUUID());
+        user.setSurname(surname);
+        user.setName(name);
+
+        return new UserSearchRow(user, new UserSearchCursor(surname, name, user.getId()));
+    }
+}
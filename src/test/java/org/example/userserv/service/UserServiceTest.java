@@ -1,23 +1,31 @@
 package org.example.userserv.service;
 
+import org.example.userserv.dto.UserCardRow;
 import org.example.userserv.dto.UserRequest;
 import org.example.userserv.dto.UserResponse;
-import org.example.userserv.entity.Card;
 import org.example.userserv.entity.User;
 import org.example.userserv.exception.UserNotFoundException;
 import org.example.userserv.exception.ValueAlreadyExistsException;
 import org.example.userserv.mapper.UserMapper;
 import org.example.userserv.repository.CardRepository;
 import org.example.userserv.repository.UserRepository;
+import org.example.userserv.sharding.LocalShardDirectory;
+import org.example.userserv.sharding.ShardDirectory;
+import org.example.userserv.sharding.ShardRouter;
+import org.example.userserv.util.EmailFilter;
 import org.example.userserv.util.SecurityUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -39,7 +47,7 @@ class UserServiceTest {
     private CardRepository cardRepository;
 
     @Mock
-    private RedisCacheManager cacheManager;
+    private CacheManager cacheManager;
 
     @Mock
     private Cache cache;
@@ -47,6 +55,24 @@ class UserServiceTest {
     @Mock
     private SecurityUtil securityUtil;
 
+    @Mock
+    private EmailFilter emailFilter;
+
+    @Mock
+    private CardPageService cardPageService;
+
+    @Spy
+    private ChunkedLookupExecutor chunkedLookupExecutor = new ChunkedLookupExecutor(500, 4, 8, 5000);
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    @Spy
+    private ShardRouter shardRouter = ShardRouter.disabled();
+
+    @Spy
+    private ShardDirectory shardDirectory = new LocalShardDirectory();
+
     @InjectMocks
     private UserService userService;
 
@@ -72,11 +98,12 @@ class UserServiceTest {
 
     @Test
     void testCreateUser() {
+        when(emailFilter.mightContain("test@example.com")).thenReturn(true);
         when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
         when(userMapper.toEntity(userRequest)).thenReturn(user);
-        when(userRepository.save(user)).thenReturn(user);
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
         when(userMapper.toResponse(user)).thenReturn(userResponse);
-        when(securityUtil.getUserIdFromToken(anyString())).thenReturn(uuid);
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
 
         UserResponse result = userService.create(userRequest);
 
@@ -85,6 +112,7 @@ class UserServiceTest {
 
     @Test
     void testCreateUserEmailAlreadyExists() {
+        when(emailFilter.mightContain("test@example.com")).thenReturn(true);
         when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
 
         assertThrows(ValueAlreadyExistsException.class, () ->
@@ -93,8 +121,11 @@ class UserServiceTest {
 
     @Test
     void testFindById() {
-        when(userRepository.findById(uuid)).thenReturn(Optional.of(user));
-        when(userMapper.toResponse(user)).thenReturn(userResponse);
+        List<UserCardRow> rows = List.of(row(uuid));
+
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(userRepository.findRowsById(uuid)).thenReturn(rows);
+        when(userMapper.toResponses(rows)).thenReturn(List.of(userResponse));
 
         UserResponse result = userService.findById(uuid);
 
@@ -103,7 +134,8 @@ class UserServiceTest {
 
     @Test
     void testFindByIdNotFound() {
-        when(userRepository.findById(uuid)).thenReturn(Optional.empty());
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(userRepository.findRowsById(uuid)).thenReturn(Collections.emptyList());
 
         assertThrows(UserNotFoundException.class, () -> userService.findById(uuid));
     }
@@ -112,16 +144,16 @@ class UserServiceTest {
     void testFindByIds() {
         UUID uuid2 = UUID.randomUUID();
         List<UUID> ids = List.of(uuid, uuid2);
-        User user2 = new User();
-        user2.setId(uuid2);
+        List<UserCardRow> rows = List.of(row(uuid), row(uuid2));
 
-        when(userRepository.findByIds(ids)).thenReturn(List.of(user, user2));
-        when(userMapper.toResponse(user)).thenReturn(userResponse);
-        when(userMapper.toResponse(user2)).thenReturn(new UserResponse());
+        when(userRepository.findRowsByIds(ids)).thenReturn(rows);
+        UserResponse secondResponse = new UserResponse();
+        secondResponse.setId(uuid2);
+        when(userMapper.toResponses(rows)).thenReturn(List.of(secondResponse, userResponse));
 
         List<UserResponse> result = userService.findByIds(ids);
 
-        assertEquals(2, result.size());
+        assertEquals(List.of(userResponse, secondResponse), result);
     }
 
     @Test
@@ -133,8 +165,10 @@ class UserServiceTest {
 
     @Test
     void testFindByEmail() {
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-        when(userMapper.toResponse(user)).thenReturn(userResponse);
+        List<UserCardRow> rows = List.of(row(uuid));
+
+        when(userRepository.findRowsByEmail("test@example.com")).thenReturn(rows);
+        when(userMapper.toResponses(rows)).thenReturn(List.of(userResponse));
 
         UserResponse result = userService.findByEmail("test@example.com");
 
@@ -143,7 +177,7 @@ class UserServiceTest {
 
     @Test
     void testFindByEmailNotFound() {
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findRowsByEmail("test@example.com")).thenReturn(Collections.emptyList());
 
         assertThrows(UserNotFoundException.class, () ->
                 userService.findByEmail("test@example.com"));
@@ -173,9 +207,11 @@ class UserServiceTest {
         updatedResponse.setSurname("New surname");
         updatedResponse.setBirthDate(birthDate);
 
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
         when(userRepository.findById(uuid)).thenReturn(Optional.of(user));
+        when(emailFilter.mightContain("new@example.com")).thenReturn(true);
         when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(updatedUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(updatedUser);
         when(userMapper.toResponse(updatedUser)).thenReturn(updatedResponse);
         when(cacheManager.getCache("users")).thenReturn(cache);
 
@@ -191,7 +227,9 @@ class UserServiceTest {
         UserRequest updateRequest = new UserRequest();
         updateRequest.setEmail("new@example.com");
 
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
         when(userRepository.findById(uuid)).thenReturn(Optional.of(user));
+        when(emailFilter.mightContain("new@example.com")).thenReturn(true);
         when(userRepository.existsByEmail("new@example.com")).thenReturn(true);
 
         assertThrows(ValueAlreadyExistsException.class,
@@ -199,24 +237,82 @@ class UserServiceTest {
     }
 
     @Test
-    void testDeleteUser() {
-        Card card = new Card();
-        card.setId(1L);
-        cache.put(1L, card);
+    void testUpdateUserReleasesPreviousEmailAfterCommit() {
+        UserRequest updateRequest = new UserRequest();
+        updateRequest.setEmail("new@example.com");
+
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(userRepository.findById(uuid)).thenReturn(Optional.of(user));
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
 
-        when(userRepository.existsById(uuid)).thenReturn(true);
-        when(cardRepository.findByUserId(uuid)).thenReturn(List.of(new Card()));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.update(uuid, updateRequest);
+            verify(shardDirectory, never()).releaseEmail(any(), any());
+
+            TransactionSynchronizationUtils.invokeAfterCommit(
+                    TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(shardDirectory).releaseEmail("test@example.com", uuid);
+        verify(shardDirectory, never()).releaseEmail("new@example.com", uuid);
+    }
+
+    @Test
+    void testUpdateUserReleasesNewEmailOnRollback() {
+        UserRequest updateRequest = new UserRequest();
+        updateRequest.setEmail("new@example.com");
+
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(userRepository.findById(uuid)).thenReturn(Optional.of(user));
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.update(uuid, updateRequest);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(shardDirectory).releaseEmail("new@example.com", uuid);
+        verify(shardDirectory, never()).releaseEmail("test@example.com", uuid);
+    }
+
+    @Test
+    void testDeleteUser() {
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(userRepository.findEmailById(uuid)).thenReturn(Optional.of("test@example.com"));
+        when(cardRepository.findIdsByUserId(uuid)).thenReturn(List.of(1L, 2L));
+        when(userRepository.deleteUserById(uuid)).thenReturn(1);
+        when(cacheManager.getCache("cards")).thenReturn(cache);
         when(cacheManager.getCache("users")).thenReturn(cache);
 
         userService.delete(uuid);
 
-        verify(userRepository).deleteById(uuid);
+        verify(userRepository).deleteUserById(uuid);
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+        verify(cache).evict("test@example.com");
+        verify(userRepository, never()).deleteById(any());
+        verify(cardPageService).invalidate(uuid);
     }
 
     @Test
     void testDeleteUserNotFound() {
-        when(userRepository.existsById(uuid)).thenReturn(false);
+        when(securityUtil.getCurrentUserId()).thenReturn(uuid);
+        when(userRepository.findEmailById(uuid)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> userService.delete(uuid));
     }
+
+    private UserCardRow row(UUID id) {
+        return new UserCardRow(id, "Just", "Test", LocalDate.of(2000, 1, 1), "test@example.com",
+                null, null, null, null);
+    }
 }
@@ -0,0 +1,61 @@
+package org.example.userserv.sharding;
+
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+    private final List<UUID> ids = randomIds(20_000);
+
+    @Test
+    void testRoutingIsStable() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(0, 1, 2), 128);
+        ConsistentHashRing sameRing = new ConsistentHashRing(List.of(2, 0, 1), 128);
+
+        ids.forEach(id -> assertEquals(ring.shardFor(id), sameRing.shardFor(id)));
+    }
+
+    @Test
+    void testKeysAreSpreadAcrossShards() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(0, 1, 2, 3), 128);
+        Map<Integer, Integer> counts = new HashMap<>();
+        ids.forEach(id -> counts.merge(ring.shardFor(id), 1, Integer::sum));
+
+        assertEquals(4, counts.size());
+        counts.values().forEach(count -> assertTrue(count > ids.size() / 4 * 0.8, "Skewed shard: " + count));
+    }
+
+    @Test
+    void testAddingShardOnlyMovesKeysToNewShard() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(0, 1, 2), 128);
+        ConsistentHashRing grown = new ConsistentHashRing(List.of(0, 1, 2, 3), 128);
+
+        long moved = 0;
+        for (UUID id : ids) {
+            int before = ring.shardFor(id);
+            int after = grown.shardFor(id);
+            if (before != after) {
+                assertEquals(3, after);
+                moved++;
+            }
+        }
+
+        assertTrue(moved < ids.size() * 0.35, "Moved too many keys: " + moved);
+    }
+
+    @Test
+    void testRejectsEmptyRing() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of(), 128));
+    }
+
+    private static List<UUID> randomIds(int count) {
+        Random random = new Random(42);
+
+        return IntStream.range(0, count).mapToObj(i -> new UUID(random.nextLong(), random.nextLong())).toList();
+    }
+}
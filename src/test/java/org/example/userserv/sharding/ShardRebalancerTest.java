@@ -0,0 +1,55 @@
+package org.example.userserv.sharding;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ShardRebalancerTest {
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private final ShardMoveRepository shardMoveRepository = mock(ShardMoveRepository.class);
+    private final ShardRouter shardRouter = new ShardRouter(new ConsistentHashRing(List.of(0), 16), null,
+            new LocalShardDirectory());
+    private final ShardRebalancer rebalancer =
+            new ShardRebalancer(shardRouter, shardMoveRepository, dataSource, 10, Duration.ZERO);
+
+    @BeforeEach
+    void initialize() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+    }
+
+    @Test
+    void testSkipsWhenAnotherNodeHoldsTheLock() throws Exception {
+        when(resultSet.getBoolean(1)).thenReturn(false);
+
+        rebalancer.rebalance();
+
+        verifyNoInteractions(shardMoveRepository);
+        verify(connection).close();
+    }
+
+    @Test
+    void testReleasesLockAfterRebalancing() throws Exception {
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(shardMoveRepository.registerCardNumbers(anyInt(), anyLong(), anyInt())).thenReturn(null);
+
+        rebalancer.rebalance();
+
+        verify(shardMoveRepository).registerEmails(eq(0), any(), eq(10));
+        verify(connection).prepareStatement("select pg_advisory_unlock(hashtext(?))");
+        verify(connection).close();
+    }
+}
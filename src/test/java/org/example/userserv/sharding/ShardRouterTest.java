@@ -0,0 +1,82 @@
+package org.example.userserv.sharding;
+
+import org.example.userserv.exception.UserNotFoundException;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class ShardRouterTest {
+    private final ConsistentHashRing ring = new ConsistentHashRing(List.of(0, 1, 2), 64);
+    private final ShardDirectory shardDirectory = mock(ShardDirectory.class);
+    private final ShardRouter shardRouter = new ShardRouter(ring, null, shardDirectory);
+
+    @Test
+    void testScatterGatherLoadsEachIdOnItsShard() {
+        List<UUID> ids = IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).toList();
+
+        List<Map.Entry<UUID, Integer>> loaded = shardRouter.scatterGather(ids, shardIds -> shardIds.stream()
+                .map(id -> Map.entry(id, ShardContext.current()))
+                .toList());
+
+        assertEquals(ids.size(), loaded.size());
+        loaded.forEach(e -> assertEquals(ring.shardFor(e.getKey()), e.getValue()));
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    void testScatterGatherUsesPlacementsWhileResharding() {
+        UUID movedId = UUID.randomUUID();
+        int target = (ring.shardFor(movedId) + 1) % 3;
+        when(shardDirectory.findPlacements(anyCollection())).thenReturn(Map.of(movedId, target));
+        ShardRouter resharding = new ShardRouter(ring, new ConsistentHashRing(List.of(0, 1, 2, 3), 64),
+                shardDirectory);
+
+        List<Integer> shards = resharding.scatterGather(List.of(movedId), shardIds -> List.of(ShardContext.current()));
+
+        assertEquals(List.of(target), shards);
+    }
+
+    @Test
+    void testOnAllShardsVisitsEveryShard() {
+        List<Integer> shards = shardRouter.onAllShards(() -> List.of(ShardContext.current()));
+
+        assertEquals(List.of(0, 1, 2), shards.stream().sorted().toList());
+    }
+
+    @Test
+    void testOnShardOfEmailRoutesToOwner() {
+        UUID userId = UUID.randomUUID();
+        when(shardDirectory.findUserIdByEmail("test@example.com")).thenReturn(Optional.of(userId));
+
+        Integer shard = shardRouter.onShardOfEmail("test@example.com", ShardContext::current);
+
+        assertEquals(ring.shardFor(userId), shard);
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    void testOnShardOfEmailUnknownEmail() {
+        when(shardDirectory.findUserIdByEmail("test@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class,
+                () -> shardRouter.onShardOfEmail("test@example.com", ShardContext::current));
+    }
+
+    @Test
+    void testDisabledRouterRunsInPlace() {
+        ShardRouter disabled = ShardRouter.disabled();
+        List<UUID> ids = List.of(UUID.randomUUID());
+
+        assertSame(ids, disabled.scatterGather(ids, shardIds -> shardIds));
+        assertEquals(7, disabled.forEachShard(() -> 7));
+        try (ShardContext.Scope ignored = disabled.enter(ids.get(0))) {
+            assertNull(ShardContext.current());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.userserv.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObservedComponentPostProcessorTest {
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private SdkTracerProvider tracerProvider;
+
+    @AfterEach
+    void close() {
+        if (tracerProvider != null) tracerProvider.close();
+    }
+
+    @Test
+    void testExportsNestedSpansForRepositoryAndMapperCalls() {
+        ObservationRegistry registry = registry(Sampler.alwaysOn());
+        ObservedComponentPostProcessor postProcessor = postProcessor(registry);
+        CardLookup lookup = (CardLookup) postProcessor.postProcessAfterInitialization(new CardLookup(), "cardLookup");
+        CardFormatter formatter = (CardFormatter) postProcessor.postProcessAfterInitialization(
+                new CardFormatterImpl(), "cardFormatterImpl");
+
+        String formatted = Observation.createNotStarted("request", registry)
+                .observe(() -> formatter.format(lookup.find(42L)));
+
+        assertEquals("card-42", formatted);
+        Map<String, SpanData> spans = exporter.getFinishedSpanItems().stream()
+                .collect(Collectors.toMap(SpanData::getName, Function.identity()));
+        assertEquals(3, spans.size());
+        SpanData request = spans.get("request");
+        assertEquals(request.getSpanId(), spans.get("card-lookup.find").getParentSpanId());
+        assertEquals(request.getSpanId(), spans.get("card-formatter.format").getParentSpanId());
+        assertEquals("find", spans.get("card-lookup.find").getAttributes().get(AttributeKey.stringKey("method")));
+        assertEquals("CardFormatter",
+                spans.get("card-formatter.format").getAttributes().get(AttributeKey.stringKey("component")));
+    }
+
+    @Test
+    void testExportsNothingWhenSamplingIsOff() {
+        ObservationRegistry registry = registry(Sampler.alwaysOff());
+        CardLookup lookup = (CardLookup) postProcessor(registry)
+                .postProcessAfterInitialization(new CardLookup(), "cardLookup");
+
+        assertEquals(7L, Observation.createNotStarted("request", registry).observe(() -> lookup.find(7L)));
+        assertTrue(exporter.getFinishedSpanItems().isEmpty());
+    }
+
+    @Test
+    void testLeavesOtherBeansUntouched() {
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor(ObservationRegistry.NOOP).postProcessAfterInitialization(bean, "bean"));
+    }
+
+    @Test
+    void testPropagatesErrors() {
+        ObservationRegistry registry = registry(Sampler.alwaysOn());
+        CardLookup lookup = (CardLookup) postProcessor(registry)
+                .postProcessAfterInitialization(new CardLookup(), "cardLookup");
+
+        assertThrows(IllegalArgumentException.class, () -> lookup.find(-1L));
+        assertEquals(StatusCode.ERROR,
+                exporter.getFinishedSpanItems().get(0).getStatus().getStatusCode());
+    }
+
+    private ObservationRegistry registry(Sampler sampler) {
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(sampler)
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        OtelTracer tracer = new OtelTracer(tracerProvider.get("test"), currentTraceContext, event -> {
+        }, new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+        return registry;
+    }
+
+    private ObservedComponentPostProcessor postProcessor(ObservationRegistry registry) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("registry", registry));
+
+        return new ObservedComponentPostProcessor(beanFactory.getBeanProvider(ObservationRegistry.class),
+                CardFormatter.class.getPackageName());
+    }
+
+    @Repository
+    public static class CardLookup {
+        public long find(long id) {
+            if (id < 0) throw new IllegalArgumentException("Negative id");
+            return id;
+        }
+    }
+
+    public interface CardFormatter {
+        String format(long id);
+    }
+
+    public static class CardFormatterImpl implements CardFormatter {
+        @Override
+        public String format(long id) {
+            return "card-" + id;
+        }
+    }
+}
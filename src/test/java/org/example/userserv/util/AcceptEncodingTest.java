@@ -0,0 +1,35 @@
+package org.example.userserv.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AcceptEncodingTest {
+
+    @Test
+    void testAcceptsListedCoding() {
+        assertTrue(AcceptEncoding.accepts("gzip", "gzip"));
+        assertTrue(AcceptEncoding.accepts("deflate, GZIP;q=0.5", "gzip"));
+        assertTrue(AcceptEncoding.accepts("br, x-gzip", "gzip"));
+    }
+
+    @Test
+    void testRejectsZeroQuality() {
+        assertFalse(AcceptEncoding.accepts("gzip;q=0", "gzip"));
+        assertFalse(AcceptEncoding.accepts("br, gzip ; q=0.000", "gzip"));
+        assertFalse(AcceptEncoding.accepts("*, gzip;q=0", "gzip"));
+    }
+
+    @Test
+    void testWildcardAppliesToUnlistedCoding() {
+        assertTrue(AcceptEncoding.accepts("br, *;q=0.1", "gzip"));
+        assertFalse(AcceptEncoding.accepts("br, *;q=0", "gzip"));
+    }
+
+    @Test
+    void testRejectsMissingOrUnrelatedHeader() {
+        assertFalse(AcceptEncoding.accepts(null, "gzip"));
+        assertFalse(AcceptEncoding.accepts("identity", "gzip"));
+        assertFalse(AcceptEncoding.accepts("gzipped", "gzip"));
+    }
+}
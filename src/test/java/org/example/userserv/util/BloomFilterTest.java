@@ -0,0 +1,53 @@
+package org.example.userserv.util;
+
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testAddedKeysAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put(key("user" + i + "@example.com"));
+
+        for (int i = 0; i < 10_000; i++) assertTrue(filter.mightContain(key("user" + i + "@example.com")));
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put(key("user" + i + "@example.com"));
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(key("other" + i + "@example.com"))) falsePositives++;
+        }
+
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.03);
+    }
+
+    @Test
+    void testRepeatedKeysDoNotRaiseFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        filter.put(key("user@example.com"));
+        double rate = filter.expectedFalsePositiveRate();
+
+        filter.put(key("user@example.com"));
+
+        assertTrue(rate > 0);
+        assertEquals(rate, filter.expectedFalsePositiveRate());
+    }
+
+    @Test
+    void testInvalidParametersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.5));
+    }
+
+    private byte[] key(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.userserv.util;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityUtilTest {
+    @TempDir
+    private Path dir;
+
+    private final UUID userId = UUID.randomUUID();
+    private KeyPair first;
+    private KeyPair second;
+    private Path jwksFile;
+
+    @BeforeEach
+    void initialize() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        first = generator.generateKeyPair();
+        second = generator.generateKeyPair();
+
+        jwksFile = dir.resolve("jwks.json");
+        Files.writeString(jwksFile, jwks("first", first));
+    }
+
+    @Test
+    void testSelectsKeyByKid() {
+        SecurityUtil securityUtil = new SecurityUtil(new JwksKeyLocator(jwksFile.toString(), ""));
+
+        assertEquals(Optional.of(userId), securityUtil.parseUserId(token("first", first)));
+        assertEquals(Optional.empty(), securityUtil.parseUserId(token("second", second)));
+        assertEquals(Optional.empty(), securityUtil.parseUserId(token("first", second)));
+    }
+
+    @Test
+    void testFallsBackToPublicKeyWithoutKid() {
+        String publicKey = Base64.getEncoder().encodeToString(first.getPublic().getEncoded());
+        SecurityUtil securityUtil = new SecurityUtil(new JwksKeyLocator("", publicKey));
+
+        assertEquals(Optional.of(userId), securityUtil.parseUserId(token(null, first)));
+        assertFalse(securityUtil.validateToken(token(null, second)));
+    }
+
+    @Test
+    void testFallsBackToPublicKeyForUnknownKid() {
+        String publicKey = Base64.getEncoder().encodeToString(first.getPublic().getEncoded());
+        SecurityUtil securityUtil = new SecurityUtil(new JwksKeyLocator("", publicKey));
+
+        assertEquals(Optional.of(userId), securityUtil.parseUserId(token("issuer-key", first)));
+        assertFalse(securityUtil.validateToken(token("issuer-key", second)));
+    }
+
+    @Test
+    void testReloadsRotatedKeys() throws Exception {
+        JwksKeyLocator keyLocator = new JwksKeyLocator(jwksFile.toString(), "");
+        SecurityUtil securityUtil = new SecurityUtil(keyLocator);
+
+        Files.writeString(jwksFile, "{\"keys\":[" + jwk("first", first) + "," + jwk("second", second) + "]}");
+        Files.setLastModifiedTime(jwksFile, FileTime.from(Instant.now().plusSeconds(60)));
+        keyLocator.reloadIfChanged();
+
+        assertEquals(2, keyLocator.size());
+        assertEquals(Optional.of(userId), securityUtil.parseUserId(token("second", second)));
+    }
+
+    @Test
+    void testKeepsKeysWhenReloadFails() throws Exception {
+        JwksKeyLocator keyLocator = new JwksKeyLocator(jwksFile.toString(), "");
+        SecurityUtil securityUtil = new SecurityUtil(keyLocator);
+
+        Files.writeString(jwksFile, "not json");
+        Files.setLastModifiedTime(jwksFile, FileTime.from(Instant.now().plusSeconds(60)));
+        keyLocator.reloadIfChanged();
+
+        assertEquals(Optional.of(userId), securityUtil.parseUserId(token("first", first)));
+    }
+
+    @Test
+    void testMapsRoleClaimToAuthorities() {
+        SecurityUtil securityUtil = new SecurityUtil(new JwksKeyLocator(jwksFile.toString(), ""));
+        String adminToken = Jwts.builder()
+                .header().keyId("first").and()
+                .claim("userId", userId.toString())
+                .claim("roles", List.of("ADMIN"))
+                .signWith(first.getPrivate())
+                .compact();
+
+        Authentication admin = securityUtil.parseAuthentication(adminToken).orElseThrow();
+        Authentication user = securityUtil.parseAuthentication(token("first", first)).orElseThrow();
+
+        assertEquals(userId, admin.getPrincipal());
+        assertEquals(List.of("ROLE_ADMIN"),
+                admin.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertTrue(user.getAuthorities().isEmpty());
+    }
+
+    private String token(String keyId, KeyPair keyPair) {
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .claim("userId", userId.toString())
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private static String jwks(String keyId, KeyPair keyPair) {
+        return "{\"keys\":[" + jwk(keyId, keyPair) + "]}";
+    }
+
+    private static String jwk(String keyId, KeyPair keyPair) {
+        RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+
+        return "{\"kty\":\"RSA\",\"kid\":\"" + keyId + "\",\"n\":\"" + base64Url(key.getModulus())
+                + "\",\"e\":\"" + base64Url(key.getPublicExponent()) + "\"}";
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.userserv.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.userserv.dto.CardResponse;
+import org.example.userserv.dto.UserResponse;
+import org.example.userserv.exception.InvalidRequestParameterException;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseFieldsWriterTest {
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SparseFieldsWriter writer = new SparseFieldsWriter(mapper);
+    private final UUID uuid = UUID.randomUUID();
+
+    @Test
+    void testWriteUsersKeepsSelectedFields() throws Exception {
+        JsonNode json = mapper.readTree(writer.writeUsers(List.of(user()),
+                FieldSelection.parse("id, email", FieldSelection.USER_FIELDS)));
+
+        assertEquals(2, json.get(0).size());
+        assertEquals(uuid.toString(), json.get(0).get("id").asText());
+        assertEquals("test@example.com", json.get(0).get("email").asText());
+    }
+
+    @Test
+    void testWriteUsersKeepsNestedCardsWhole() throws Exception {
+        JsonNode json = mapper.readTree(writer.writeUsers(user(),
+                FieldSelection.parse("cards", FieldSelection.USER_FIELDS)));
+
+        assertEquals(1, json.size());
+        assertEquals("1111", json.get("cards").get(0).get("number").asText());
+    }
+
+    @Test
+    void testWriteCardsKeepsSelectedFields() throws Exception {
+        JsonNode json = mapper.readTree(writer.writeCards(card(),
+                FieldSelection.parse("id,number", FieldSelection.CARD_FIELDS)));
+
+        assertEquals(2, json.size());
+        assertEquals("1111", json.get("number").asText());
+    }
+
+    @Test
+    void testDefaultMapperIsUnaffected() throws Exception {
+        writer.writeUsers(user(), FieldSelection.parse("id", FieldSelection.USER_FIELDS));
+
+        assertEquals(6, mapper.readTree(mapper.writeValueAsBytes(user())).size());
+    }
+
+    @Test
+    void testParseRejectsUnknownField() {
+        assertThrows(InvalidRequestParameterException.class,
+                () -> FieldSelection.parse("id,password", FieldSelection.USER_FIELDS));
+        assertThrows(InvalidRequestParameterException.class,
+                () -> FieldSelection.parse(" , ", FieldSelection.USER_FIELDS));
+    }
+
+    private UserResponse user() {
+        UserResponse user = new UserResponse();
+        user.setId(uuid);
+        user.setName("Just");
+        user.setSurname("Test");
+        user.setBirthDate(LocalDate.of(2000, 1, 1));
+        user.setEmail("test@example.com");
+        user.setCards(List.of(card()));
+
+        return user;
+    }
+
+    private CardResponse card() {
+        return new CardResponse(1L, "1111", "Holder", LocalDate.of(2030, 1, 1), uuid);
+    }
+}